@@ -16,6 +16,9 @@
  */
 package org.apache.commons.validator;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
@@ -24,10 +27,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.StringTokenizer;
+import java.util.function.Function;
 
-import org.apache.commons.beanutils.PropertyUtils;
 import org.apache.commons.collections.FastHashMap; // DEPRECATED
 import org.apache.commons.validator.util.ValidatorUtils;
 
@@ -120,11 +122,10 @@ public class Field implements Cloneable, Serializable {
 
     /**
      * Internal representation of this.depends String as a List.  This List
-     * gets updated whenever setDepends() gets called.  This List is
-     * synchronized so a call to setDepends() (which clears the List) won't
-     * interfere with a call to isDependency().
+     * is immutable and replaced whenever setDepends() gets called, so it can
+     * be read without a lock while it is being replaced.
      */
-    private final List<String> dependencyList = Collections.synchronizedList(new ArrayList<>());
+    private volatile List<String> dependencyList = Collections.emptyList();
 
     /**
      * @deprecated Subclasses should use getVarMap() instead.
@@ -138,6 +139,16 @@ public class Field implements Cloneable, Serializable {
     @Deprecated
     protected FastHashMap hMsgs = new FastHashMap(); // <String, Msg>
 
+    /**
+     * The variables frozen by {@link #process(Map, Map)}, which empties hVars, or {@code null} to read getVarMap().
+     */
+    private transient volatile Map<String, Var> frozenVars;
+
+    /**
+     * The messages frozen by {@link #process(Map, Map)}, which empties hMsgs, or {@code null} to read getMsgMap().
+     */
+    private transient volatile Map<String, Msg> frozenMsgs;
+
     /**
      * Holds Maps of arguments.  args[0] returns the Map for the first
      * replacement argument.  Start with a 0 length array so that it will
@@ -187,6 +198,7 @@ public class Field implements Cloneable, Serializable {
      */
     public void addMsg(final Msg msg) {
         getMsgMap().put(msg.getName(), msg);
+        frozenMsgs = null;
     }
 
     /**
@@ -208,6 +220,7 @@ public class Field implements Cloneable, Serializable {
      */
     public void addVar(final Var v) {
         getVarMap().put(v.getName(), v);
+        frozenVars = null;
     }
 
     /**
@@ -237,12 +250,66 @@ public class Field implements Cloneable, Serializable {
             field.args[i] = argMap;
         }
 
-        field.hVars = ValidatorUtils.copyFastHashMap(hVars);
-        field.hMsgs = ValidatorUtils.copyFastHashMap(hMsgs);
+        // a frozen field holds its variables and messages in the frozen copies only
+        final Map<String, Var> vars = frozenVars;
+        final Map<String, Msg> msgs = frozenMsgs;
+        field.hVars = ValidatorUtils.copyFastHashMap(vars != null ? new FastHashMap(vars) : hVars);
+        field.hMsgs = ValidatorUtils.copyFastHashMap(msgs != null ? new FastHashMap(msgs) : hMsgs);
+        field.frozenVars = null;
+        field.frozenMsgs = null;
+        if (vars != null || msgs != null) {
+            field.freeze();
+        }
 
         return field;
     }
 
+    /**
+     * Adds an action to the plan after the actions it depends on.
+     *
+     * @return false if the action is missing or depends on itself.
+     */
+    private static boolean compileAction(final String name, final Map<String, ValidatorAction> actions, final List<ValidatorAction> plan,
+            final List<String> path) {
+        final ValidatorAction action = actions.get(name);
+        if (action == null || path.contains(name)) {
+            return false;
+        }
+        if (plan.contains(action)) {
+            return true;
+        }
+        path.add(name);
+        for (final String depend : action.getDependencyList()) {
+            if (!compileAction(depend, actions, plan, path)) {
+                return false;
+            }
+        }
+        path.remove(path.size() - 1);
+        plan.add(action);
+        return true;
+    }
+
+    /**
+     * Resolves the depends clause into the actions to run, each after the actions it depends on and each only once.
+     * <p>
+     * Running the actions in this order, stopping at the first failure, gives the same results as resolving the dependencies while validating: the
+     * first failure ends the validation of the field either way, and an action shared by several dependency chains only needs to pass once.
+     * </p>
+     *
+     * @param actions A Map of validator names to ValidatorAction objects.
+     * @return The actions in the order to run them, or {@code null} if an action is missing or the dependencies form a cycle, in which case the field is
+     *         validated by {@link #validate(Map, Map)}.
+     */
+    ValidatorAction[] compileActions(final Map<String, ValidatorAction> actions) {
+        final List<ValidatorAction> plan = new ArrayList<>();
+        for (final String depend : dependencyList) {
+            if (!compileAction(depend, actions, plan, new ArrayList<>())) {
+                return null;
+            }
+        }
+        return plan.toArray(new ValidatorAction[0]);
+    }
+
     /**
      * Calculate the position of the Arg
      */
@@ -301,6 +368,20 @@ public class Field implements Cloneable, Serializable {
         }
     }
 
+    /**
+     * Freezes the variables and messages into the immutable copies read once the field is processed, emptying hVars and hMsgs.
+     */
+    void freeze() {
+        if (frozenVars == null) {
+            final Map<String, Var> vars = getVarMap();
+            frozenVars = vars == hVars ? FrozenMaps.freeze(vars) : FrozenMaps.copyOf(vars);
+        }
+        if (frozenMsgs == null) {
+            final Map<String, Msg> msgs = getMsgMap();
+            frozenMsgs = msgs == hMsgs ? FrozenMaps.freeze(msgs) : FrozenMaps.copyOf(msgs);
+        }
+    }
+
     /**
      * Generate correct {@code key} value.
      */
@@ -375,7 +456,7 @@ public class Field implements Cloneable, Serializable {
      * @return A list of the Field's dependencies.
      */
     public List<String> getDependencyList() {
-        return Collections.unmodifiableList(dependencyList);
+        return dependencyList;
     }
 
     /**
@@ -424,45 +505,24 @@ public class Field implements Cloneable, Serializable {
      * Returns an indexed property from the object we're validating.
      *
      * @param bean The bean to extract the indexed values from.
+     * @return The items of the indexed property, empty if it is {@code null}.
      * @throws ValidatorException If there's an error looking up the property or, the property found is not indexed.
      */
     Object[] getIndexedProperty(final Object bean) throws ValidatorException {
         Object indexProp = null;
         try {
-            indexProp = PropertyUtils.getProperty(bean, getIndexedListProperty());
-        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new ValidatorException(e);
-        }
-        if (indexProp instanceof Collection) {
-            return ((Collection<?>) indexProp).toArray();
-        }
-        if (indexProp.getClass().isArray()) {
-            return (Object[]) indexProp;
-        }
-        throw new ValidatorException(getKey() + " is not indexed");
-    }
-
-    /**
-     * Returns the size of an indexed property from the object we're validating.
-     *
-     * @param bean The bean to extract the indexed values from.
-     * @throws ValidatorException If there's an error looking up the property or, the property found is not indexed.
-     */
-    private int getIndexedPropertySize(final Object bean) throws ValidatorException {
-        Object indexProp = null;
-        try {
-            indexProp = PropertyUtils.getProperty(bean, getIndexedListProperty());
+            indexProp = ValidatorUtils.getProperty(bean, getIndexedListProperty());
         } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
             throw new ValidatorException(e);
         }
         if (indexProp == null) {
-            return 0;
+            return new Object[0];
         }
         if (indexProp instanceof Collection) {
-            return ((Collection<?>) indexProp).size();
+            return ((Collection<?>) indexProp).toArray();
         }
         if (indexProp.getClass().isArray()) {
-            return ((Object[]) indexProp).length;
+            return (Object[]) indexProp;
         }
         throw new ValidatorException(getKey() + " is not indexed");
     }
@@ -488,7 +548,7 @@ public class Field implements Cloneable, Serializable {
      * @since 1.1.4
      */
     public Msg getMessage(final String key) {
-        return getMsgMap().get(key);
+        return msgs().get(key);
     }
 
     /**
@@ -499,7 +559,8 @@ public class Field implements Cloneable, Serializable {
      * @since 1.1.4
      */
     public Map<String, Msg> getMessages() {
-        return Collections.unmodifiableMap(getMsgMap());
+        final Map<String, Msg> frozen = frozenMsgs;
+        return frozen != null ? frozen : Collections.unmodifiableMap(getMsgMap());
     }
 
     /**
@@ -521,6 +582,9 @@ public class Field implements Cloneable, Serializable {
      */
     @SuppressWarnings("unchecked") // FastHashMap does not support generics
     protected Map<String, Msg> getMsgMap() {
+        if (frozenMsgs != null) {
+            thawMsgs();
+        }
         return hMsgs;
     }
 
@@ -550,7 +614,7 @@ public class Field implements Cloneable, Serializable {
      * @return The Variable
      */
     public Var getVar(final String mainKey) {
-        return getVarMap().get(mainKey);
+        return vars().get(mainKey);
     }
 
     /**
@@ -561,6 +625,9 @@ public class Field implements Cloneable, Serializable {
      */
     @SuppressWarnings("unchecked") // FastHashMap does not support generics
     protected Map<String, Var> getVarMap() {
+        if (frozenVars != null) {
+            thawVars();
+        }
         return hVars;
     }
 
@@ -571,7 +638,8 @@ public class Field implements Cloneable, Serializable {
      * @return The Map of Variable's for a Field.
      */
     public Map<String, Var> getVars() {
-        return Collections.unmodifiableMap(getVarMap());
+        final Map<String, Var> frozen = frozenVars;
+        return frozen != null ? frozen : Collections.unmodifiableMap(getVarMap());
     }
 
     /**
@@ -583,7 +651,7 @@ public class Field implements Cloneable, Serializable {
     public String getVarValue(final String mainKey) {
         String value = null;
 
-        final Var v = getVarMap().get(mainKey);
+        final Var v = vars().get(mainKey);
         if (v != null) {
             value = v.getValue();
         }
@@ -601,6 +669,28 @@ public class Field implements Cloneable, Serializable {
         throw new ValidatorException("No ValidatorAction named %s found for field %s", name, getProperty());
     }
 
+    /**
+     * Creates the view of this indexed field that is passed to the validation methods for one item, whose key names the item, such as
+     * {@code lines[3].quantity}.
+     * <p>
+     * Unlike {@link #clone()}, the view shares the arguments, messages and variables of this field, so it costs the same whatever their number. It must
+     * not be changed.
+     * </p>
+     *
+     * @param pos The index of the item.
+     * @return The view.
+     */
+    Field indexedField(final int pos) {
+        final Field field;
+        try {
+            field = (Field) super.clone();
+        } catch (final CloneNotSupportedException e) {
+            throw new UnsupportedOperationException(e.toString(), e);
+        }
+        field.key = ValidatorUtils.replace(key, TOKEN_INDEXED, "[" + pos + "]");
+        return field;
+    }
+
     /**
      * Determines whether client-side scripting should be generated
      * for this field. The default is {@code true}
@@ -634,95 +724,113 @@ public class Field implements Cloneable, Serializable {
         return indexedListProperty != null && !indexedListProperty.isEmpty();
     }
 
+    /**
+     * Gets the messages to read: the frozen copy once processed, otherwise getMsgMap().
+     */
+    private Map<String, Msg> msgs() {
+        final Map<String, Msg> frozen = frozenMsgs;
+        return frozen != null ? frozen : getMsgMap();
+    }
+
     /**
      * Replace constants with values in fields and process the depends field
      * to create the dependency {@link Map}.
+     * <p>
+     * Each string is scanned once for {@code ${name}} placeholders. A
+     * {@code FormSet} constant takes precedence over a global constant of the
+     * same name and has the global constants in its value replaced. The
+     * property, variable values, message keys and argument keys have their
+     * constants replaced; argument keys then have their {@code ${var:name}}
+     * placeholders replaced with the variable values. Replaced text is not
+     * scanned again.
+     * </p>
      */
     void process(final Map<String, String> globalConstants, final Map<String, String> constants) {
-        hMsgs.setFast(false);
-        hVars.setFast(true);
-
         generateKey();
 
-        // Process FormSet Constants
-        for (final Entry<String, String> entry : constants.entrySet()) {
-            final String key1 = entry.getKey();
-            final String key2 = TOKEN_START + key1 + TOKEN_END;
-            final String replaceValue = entry.getValue();
-
-            property = ValidatorUtils.replace(property, key2, replaceValue);
-
-            processVars(key2, replaceValue);
-
-            processMessageComponents(key2, replaceValue);
+        final Function<String, String> constantValues = name -> {
+            final String value = constants.get(name);
+            return value != null ? replace(value, globalConstants::get) : globalConstants.get(name);
+        };
+        property = replace(property, constantValues);
+        // a field merged from a parent form is processed again: update the variables and messages in place, not the maps
+        for (final Var var : vars().values()) {
+            var.setValue(replace(var.getValue(), constantValues));
         }
-
-        // Process Global Constants
-        for (final Entry<String, String> entry : globalConstants.entrySet()) {
-            final String key1 = entry.getKey();
-            final String key2 = TOKEN_START + key1 + TOKEN_END;
-            final String replaceValue = entry.getValue();
-
-            property = ValidatorUtils.replace(property, key2, replaceValue);
-
-            processVars(key2, replaceValue);
-
-            processMessageComponents(key2, replaceValue);
+        for (final Msg msg : msgs().values()) {
+            msg.setKey(replace(msg.getKey(), constantValues));
         }
 
         // Process Var Constant Replacement
-        for (final String key1 : getVarMap().keySet()) {
-            final String key2 = TOKEN_START + TOKEN_VAR + key1 + TOKEN_END;
-            final Var var = getVar(key1);
-            final String replaceValue = var.getValue();
-
-            processMessageComponents(key2, replaceValue);
-        }
-
-        hMsgs.setFast(true);
-    }
-
-    /**
-     * Replace the arg {@link Collection} key value with the key/value
-     * pairs passed in.
-     */
-    private void processArg(final String key, final String replaceValue) {
+        final Function<String, String> varValues = name -> {
+            if (!name.startsWith(TOKEN_VAR)) {
+                return null;
+            }
+            final Var var = vars().get(name.substring(TOKEN_VAR.length()));
+            return var != null ? var.getValue() : null;
+        };
         for (final Map<String, Arg> argMap : args) {
             if (argMap == null) {
                 continue;
             }
             for (final Arg arg : argMap.values()) {
                 if (arg != null) {
-                    arg.setKey(ValidatorUtils.replace(arg.getKey(), key, replaceValue));
+                    arg.setKey(replace(replace(arg.getKey(), constantValues), varValues));
                 }
             }
         }
+
+        freeze();
     }
 
     /**
-     * Replace the args key value with the key/value pairs passed in.
-     */
-    private void processMessageComponents(final String key, final String replaceValue) {
-        final String varKey = TOKEN_START + TOKEN_VAR;
-        // Process Messages
-        if (key != null && !key.startsWith(varKey)) {
-            for (final Msg msg : getMsgMap().values()) {
-                msg.setKey(ValidatorUtils.replace(msg.getKey(), key, replaceValue));
-            }
-        }
-
-        processArg(key, replaceValue);
+     * Moves the variables and messages written with a frozen field back into hVars and hMsgs.
+     *
+     * @param in The stream to read from.
+     * @throws IOException if an I/O error occurs.
+     * @throws ClassNotFoundException if the class of a serialized object cannot be found.
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        FrozenMaps.thaw(getVarMap(), FrozenMaps.<String, Var>read(in));
+        FrozenMaps.thaw(getMsgMap(), FrozenMaps.<String, Msg>read(in));
     }
 
     /**
-     * Replace the vars value with the key/value pairs passed in.
+     * Replaces the {@code ${name}} placeholders of a string in one pass.
+     *
+     * @param text The string, may be null.
+     * @param values Gets the value of a placeholder name, or {@code null} to leave the placeholder.
+     * @return The string with its placeholders replaced.
      */
-    private void processVars(final String key, final String replaceValue) {
-        for (final String varKey : getVarMap().keySet()) {
-            final Var var = getVar(varKey);
-            var.setValue(ValidatorUtils.replace(var.getValue(), key, replaceValue));
+    static String replace(final String text, final Function<String, String> values) {
+        if (text == null) {
+            return null;
         }
-
+        int start = text.indexOf(TOKEN_START);
+        if (start < 0) {
+            return text;
+        }
+        StringBuilder result = null;
+        int copied = 0;
+        while (start >= 0) {
+            final int end = text.indexOf(TOKEN_END, start + TOKEN_START.length());
+            if (end < 0) {
+                break;
+            }
+            final String value = values.apply(text.substring(start + TOKEN_START.length(), end));
+            if (value == null) {
+                start = text.indexOf(TOKEN_START, start + 1);
+            } else {
+                if (result == null) {
+                    result = new StringBuilder(text.length() + value.length());
+                }
+                result.append(text, copied, start).append(value);
+                copied = end + TOKEN_END.length();
+                start = text.indexOf(TOKEN_START, copied);
+            }
+        }
+        return result == null ? text : result.append(text, copied, text.length()).toString();
     }
 
     /**
@@ -732,7 +840,9 @@ public class Field implements Cloneable, Serializable {
      * @param va Run dependent validators for this action.
      * @param results
      * @param actions
-     * @param pos
+     * @param item The item of an indexed field, or {@code null}.
+     * @param itemField The view of an indexed field for the item, or {@code null} if the field is not indexed.
+     * @param depth The number of actions that depend on this action through the dependencies being run.
      * @return true if all dependent validations passed.
      * @throws ValidatorException If there's an error running a validator
      */
@@ -740,8 +850,10 @@ public class Field implements Cloneable, Serializable {
         final ValidatorAction va,
         final ValidatorResults results,
         final Map<String, ValidatorAction> actions,
-        final Map<String, Object> params,
-        final int pos)
+        final ParameterValues params,
+        final Object item,
+        final Field itemField,
+        final int depth)
         throws ValidatorException {
 
         final List<String> dependentValidators = va.getDependencyList();
@@ -755,8 +867,12 @@ public class Field implements Cloneable, Serializable {
             if (action == null) {
                 handleMissingAction(depend);
             }
+            // a chain of dependencies longer than the number of actions repeats one
+            if (depth + 1 >= actions.size()) {
+                throw new ValidatorException("The dependencies of ValidatorAction %s form a cycle for field %s", va.getName(), getProperty());
+            }
 
-            if (!validateForRule(action, results, actions, params, pos)) {
+            if (!validateForRule(action, results, actions, params, item, itemField, depth + 1)) {
                 return false;
             }
         }
@@ -784,16 +900,16 @@ public class Field implements Cloneable, Serializable {
     public void setDepends(final String depends) {
         this.depends = depends;
 
-        dependencyList.clear();
-
+        final List<String> dependencies = new ArrayList<>();
         final StringTokenizer st = new StringTokenizer(depends, ",");
         while (st.hasMoreTokens()) {
             final String depend = st.nextToken().trim();
 
             if (depend != null && !depend.isEmpty()) {
-                dependencyList.add(depend);
+                dependencies.add(depend);
             }
         }
+        dependencyList = Collections.unmodifiableList(dependencies);
     }
 
     /**
@@ -852,6 +968,22 @@ public class Field implements Cloneable, Serializable {
         this.property = property;
     }
 
+    /**
+     * Moves the frozen messages back into hMsgs, for the field to be changed.
+     */
+    private synchronized void thawMsgs() {
+        FrozenMaps.thaw(hMsgs, frozenMsgs);
+        frozenMsgs = null;
+    }
+
+    /**
+     * Moves the frozen variables back into hVars, for the field to be changed.
+     */
+    private synchronized void thawVars() {
+        FrozenMaps.thaw(hVars, frozenVars);
+        frozenVars = null;
+    }
+
     /**
      * Returns a string representation of the object.
      *
@@ -871,11 +1003,12 @@ public class Field implements Cloneable, Serializable {
 
         if (hVars != null) {
             results.append("\t\tVars:\n");
-            for (final Object key1 : getVarMap().keySet()) {
+            final Map<String, Var> vars = vars();
+            for (final Object key1 : vars.keySet()) {
                 results.append("\t\t\t");
                 results.append(key1);
                 results.append("=");
-                results.append(getVarMap().get(key1));
+                results.append(vars.get(key1));
                 results.append("\n");
             }
         }
@@ -883,6 +1016,14 @@ public class Field implements Cloneable, Serializable {
         return results.toString();
     }
 
+    /**
+     * Gets the variables to read: the frozen copy once processed, otherwise getVarMap().
+     */
+    private Map<String, Var> vars() {
+        final Map<String, Var> frozen = frozenVars;
+        return frozen != null ? frozen : getVarMap();
+    }
+
     /**
      * Run the configured validations on this field.  Run all validations
      * in the depends clause over each item in turn, returning when the first
@@ -897,39 +1038,88 @@ public class Field implements Cloneable, Serializable {
      */
     public ValidatorResults validate(final Map<String, Object> params, final Map<String, ValidatorAction> actions)
             throws ValidatorException {
+        final ValidatorResults allResults = new ValidatorResults();
+        validate(new ParameterValues(params), actions, allResults);
+        return allResults;
+    }
+
+    /**
+     * Run the configured validations on this field, binding the parameters of
+     * the validation methods from the given values.
+     *
+     * @param params The parameter values of the validation.
+     * @param actions A Map of validator names to ValidatorAction objects.
+     * @param allResults The results to add the validation messages for this
+     * field to.
+     * @throws ValidatorException If an error occurs during validation.
+     */
+    void validate(final ParameterValues params, final Map<String, ValidatorAction> actions, final ValidatorResults allResults)
+            throws ValidatorException {
 
         if (getDepends() == null) {
-            return new ValidatorResults();
+            return;
         }
 
-        final ValidatorResults allResults = new ValidatorResults();
-
-        final Object bean = params.get(Validator.BEAN_PARAM);
-        final int numberOfFieldsToValidate = isIndexed() ? getIndexedPropertySize(bean) : 1;
+        // the items of an indexed field are read once
+        final Object[] items = isIndexed() ? getIndexedProperty(params.get(ParameterValues.BEAN)) : null;
+        final int numberOfFieldsToValidate = items == null ? 1 : items.length;
 
         for (int fieldNumber = 0; fieldNumber < numberOfFieldsToValidate; fieldNumber++) {
 
-            final ValidatorResults results = new ValidatorResults();
-            synchronized (dependencyList) {
-                for (final String depend : dependencyList) {
+            final Object item = items == null ? null : items[fieldNumber];
+            final Field itemField = items == null ? null : indexedField(fieldNumber);
+            final ValidatorResults results = params.getItemResults();
+            for (final String depend : dependencyList) {
 
-                    final ValidatorAction action = actions.get(depend);
-                    if (action == null) {
-                        handleMissingAction(depend);
-                    }
+                final ValidatorAction action = actions.get(depend);
+                if (action == null) {
+                    handleMissingAction(depend);
+                }
 
-                    final boolean good = validateForRule(action, results, actions, params, fieldNumber);
+                final boolean good = validateForRule(action, results, actions, params, item, itemField, 0);
 
-                    if (!good) {
-                        allResults.merge(results);
-                        return allResults;
-                    }
+                if (!good) {
+                    allResults.merge(results);
+                    return;
                 }
             }
             allResults.merge(results);
         }
+    }
 
-        return allResults;
+    /**
+     * Run the actions of a compiled plan on this field, in order, over each
+     * item in turn, returning when the first one fails.
+     *
+     * @param params The parameter values of the validation.
+     * @param plan The actions returned by {@link #compileActions(Map)}.
+     * @param allResults The results to add the validation messages for this
+     * field to.
+     * @throws ValidatorException If an error occurs during validation.
+     */
+    void validate(final ParameterValues params, final ValidatorAction[] plan, final ValidatorResults allResults) throws ValidatorException {
+
+        if (getDepends() == null) {
+            return;
+        }
+
+        // the items of an indexed field are read once
+        final Object[] items = isIndexed() ? getIndexedProperty(params.get(ParameterValues.BEAN)) : null;
+        final int numberOfFieldsToValidate = items == null ? 1 : items.length;
+
+        for (int fieldNumber = 0; fieldNumber < numberOfFieldsToValidate; fieldNumber++) {
+
+            final Object item = items == null ? null : items[fieldNumber];
+            final Field itemField = items == null ? null : indexedField(fieldNumber);
+            final ValidatorResults results = params.getItemResults();
+            for (final ValidatorAction action : plan) {
+                if (!action.executeValidationMethod(this, params, results, item, itemField)) {
+                    allResults.merge(results);
+                    return;
+                }
+            }
+            allResults.merge(results);
+        }
     }
 
     /**
@@ -942,8 +1132,10 @@ public class Field implements Cloneable, Serializable {
         final ValidatorAction va,
         final ValidatorResults results,
         final Map<String, ValidatorAction> actions,
-        final Map<String, Object> params,
-        final int pos)
+        final ParameterValues params,
+        final Object item,
+        final Field itemField,
+        final int depth)
         throws ValidatorException {
 
         final ValidatorResult result = results.getValidatorResult(getKey());
@@ -951,11 +1143,23 @@ public class Field implements Cloneable, Serializable {
             return result.isValid(va.getName());
         }
 
-        if (!runDependentValidators(va, results, actions, params, pos)) {
+        if (!runDependentValidators(va, results, actions, params, item, itemField, depth)) {
             return false;
         }
 
-        return va.executeValidationMethod(this, params, results, pos);
+        return va.executeValidationMethod(this, params, results, item, itemField);
+    }
+
+    /**
+     * Writes the frozen variables and messages after hVars and hMsgs, which a frozen field has emptied.
+     *
+     * @param out The stream to write to.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(frozenVars);
+        out.writeObject(frozenMsgs);
     }
 }
 
@@ -16,9 +16,13 @@
  */
 package org.apache.commons.validator;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -57,6 +61,11 @@ public class Form implements Serializable {
     @Deprecated
     protected FastHashMap hFields = new FastHashMap(); // <String, Field>
 
+    /**
+     * The fields by key frozen by {@link #process(Map, Map, Map)}, which empties hFields, or {@code null} to read getFieldMap().
+     */
+    private transient volatile Map<String, Field> frozenFields;
+
     /**
      * The name/key of the form which this form extends from.
      *
@@ -85,6 +94,7 @@ public class Form implements Serializable {
     public void addField(final Field f) {
         lFields.add(f);
         getFieldMap().put(f.getKey(), f);
+        frozenFields = null;
     }
 
     /**
@@ -95,7 +105,23 @@ public class Form implements Serializable {
      * @since 1.1
      */
     public boolean containsField(final String fieldName) {
-        return getFieldMap().containsKey(fieldName);
+        return fields().containsKey(fieldName);
+    }
+
+    /**
+     * Gets the fields by key to read: the frozen copy once processed, otherwise getFieldMap().
+     */
+    private Map<String, Field> fields() {
+        final Map<String, Field> frozen = frozenFields;
+        return frozen != null ? frozen : getFieldMap();
+    }
+
+    /**
+     * Freezes the fields by key into the immutable copy read once the form is processed, emptying hFields.
+     */
+    private void freeze() {
+        final Map<String, Field> fields = getFieldMap();
+        frozenFields = fields == hFields ? FrozenMaps.freeze(fields) : FrozenMaps.copyOf(fields);
     }
 
     /**
@@ -117,7 +143,7 @@ public class Form implements Serializable {
      * @since 1.1
      */
     public Field getField(final String fieldName) {
-        return getFieldMap().get(fieldName);
+        return fields().get(fieldName);
     }
 
     /**
@@ -128,6 +154,9 @@ public class Form implements Serializable {
      */
     @SuppressWarnings("unchecked") // FastHashMap is not generic
     protected Map<String, Field> getFieldMap() {
+        if (frozenFields != null) {
+            thawFields();
+        }
         return hFields;
     }
 
@@ -181,8 +210,7 @@ public class Form implements Serializable {
      */
     protected void merge(final Form depends) {
         final List<Field> templFields = new ArrayList<>();
-        @SuppressWarnings("unchecked") // FastHashMap is not generic
-        final Map<String, Field> temphFields = new FastHashMap();
+        final Map<String, Field> temphFields = new HashMap<>();
         for (final Field defaultField : depends.getFields()) {
             if (defaultField != null) {
                 final String fieldKey = defaultField.getKey();
@@ -200,6 +228,7 @@ public class Form implements Serializable {
         }
         lFields.addAll(0, templFields);
         getFieldMap().putAll(temphFields);
+        frozenFields = null;
     }
 
     /**
@@ -233,16 +262,34 @@ public class Form implements Serializable {
                 }
             }
         }
-        hFields.setFast(true);
         // no need to reprocess parent's fields, we iterate from 'n'
         for (final Iterator<Field> i = lFields.listIterator(n); i.hasNext(); ) {
             final Field f = i.next();
             f.process(globalConstants, constants);
         }
 
+        freeze();
         processed = true;
     }
 
+    /**
+     * Restores the immutable copies of a processed form and its fields, which are written after their serializable fields.
+     *
+     * @param in The stream to read from.
+     * @throws IOException if an I/O error occurs.
+     * @throws ClassNotFoundException if the class of a serialized object cannot be found.
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        FrozenMaps.thaw(getFieldMap(), FrozenMaps.<String, Field>read(in));
+        if (processed) {
+            for (final Field field : lFields) {
+                field.freeze();
+            }
+            freeze();
+        }
+    }
+
     /**
      * Sets the name/key of the parent set of validation rules.
      *
@@ -262,6 +309,14 @@ public class Form implements Serializable {
         this.name = name;
     }
 
+    /**
+     * Moves the frozen fields by key back into hFields, for the form to be changed.
+     */
+    private synchronized void thawFields() {
+        FrozenMaps.thaw(hFields, frozenFields);
+        frozenFields = null;
+    }
+
     /**
      * Returns a string representation of the object.
      *
@@ -314,26 +369,71 @@ public class Form implements Serializable {
      */
     ValidatorResults validate(final Map<String, Object> params, final Map<String, ValidatorAction> actions, final int page, final String fieldName)
             throws ValidatorException {
-        final ValidatorResults results = new ValidatorResults();
-        params.put(Validator.VALIDATOR_RESULTS_PARAM, results);
+        return validate(params, actions, page, fieldName, new ValidatorResults());
+    }
+
+    /**
+     * Validate all Fields in this Form on the given page and below, adding the validation messages to the given results.
+     *
+     * @param params    A Map of parameter class names to parameter values to pass into validation methods.
+     * @param actions   A Map of validator names to ValidatorAction objects.
+     * @param page      Fields on pages higher than this will not be validated.
+     * @param fieldName The key of the only field to validate or {@code null} to validate all fields.
+     * @param results   The empty results to add the validation messages to.
+     * @return The results.
+     * @throws ValidatorException
+     */
+    ValidatorResults validate(final Map<String, Object> params, final Map<String, ValidatorAction> actions, final int page, final String fieldName,
+            final ValidatorResults results) throws ValidatorException {
+        // Share the parameter values between the fields, so each well-known parameter is looked up once per form
+        final ParameterValues values = new ParameterValues(params);
+        values.set(ParameterValues.VALIDATOR_RESULTS, results);
         // Only validate a single field if specified
         if (fieldName != null) {
-            final Field field = getFieldMap().get(fieldName);
+            final Field field = getField(fieldName);
             if (field == null) {
                 throw new ValidatorException("Unknown field %s in form %s", fieldName, getName());
             }
-            params.put(Validator.FIELD_PARAM, field);
+            values.set(ParameterValues.FIELD, field);
             if (field.getPage() <= page) {
-                results.merge(field.validate(params, actions));
+                validate(field, values, actions, results);
             }
         } else {
             for (final Field field : lFields) {
-                params.put(Validator.FIELD_PARAM, field);
+                values.set(ParameterValues.FIELD, field);
                 if (field.getPage() <= page) {
-                    results.merge(field.validate(params, actions));
+                    validate(field, values, actions, results);
                 }
             }
         }
         return results;
     }
+
+    /**
+     * Validates a field, adding the validation messages to the given results.
+     * <p>
+     * A subclass of {@code Field} is validated through {@link Field#validate(Map, Map)}, so that its overrides are called.
+     * </p>
+     */
+    private void validate(final Field field, final ParameterValues values, final Map<String, ValidatorAction> actions, final ValidatorResults results)
+            throws ValidatorException {
+        if (field.getClass() == Field.class) {
+            final ValidatorResults fieldResults = values.getFieldResults();
+            field.validate(values, actions, fieldResults);
+            results.merge(fieldResults);
+        } else {
+            results.merge(field.validate(values.getParameters(), actions));
+        }
+    }
+
+    /**
+     * Writes the frozen fields by key after hFields, which a processed form has emptied.
+     *
+     * @param out The stream to write to.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(frozenFields);
+    }
 }
@@ -0,0 +1,406 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * The compiled, immutable execution plan of a processed {@link Form}.
+ * <p>
+ * {@link ValidatorResources#process()} compiles a plan for each {@code Form} of each {@code FormSet}, so for each form and locale. The plan holds, for each
+ * field in order, its page and the {@link ValidatorAction}s of its depends clause with their dependencies resolved and ordered (see
+ * {@link Field#compileActions(Map)}), so validating a form runs its rules without locks or lookups by action name.
+ * </p>
+ * <p>
+ * A field whose depends clause names a missing action or has cyclic dependencies, or whose class is a subclass of {@code Field}, is left to
+ * {@link Field#validate(Map, Map)}, which reports these problems as before.
+ * </p>
+ */
+final class FormPlan {
+
+    /**
+     * The plan of a field.
+     */
+    private static final class FieldPlan {
+
+        private final Field field;
+
+        private final int page;
+
+        /** The actions to run or {@code null} if the field validates itself. */
+        private final ValidatorAction[] actions;
+
+        FieldPlan(final Field field, final Map<String, ValidatorAction> actions) {
+            this.field = field;
+            this.page = field.getPage();
+            this.actions = field.getClass() == Field.class ? field.compileActions(actions) : null;
+        }
+
+        void validate(final ParameterValues values, final Map<String, ValidatorAction> actions, final ValidatorResults results) throws ValidatorException {
+            if (this.actions == null) {
+                results.merge(field.validate(values.getParameters(), actions));
+            } else {
+                field.validate(values, this.actions, results);
+            }
+        }
+
+        /**
+         * Validates the field with its own copy of the parameters, on any thread.
+         */
+        ValidatorResults validate(final Map<String, Object> params, final Map<String, ValidatorAction> actions, final ClassLoader contextClassLoader)
+                throws ValidatorException {
+            final Thread thread = Thread.currentThread();
+            final ClassLoader previous = thread.getContextClassLoader();
+            thread.setContextClassLoader(contextClassLoader);
+            try {
+                final ValidatorResults results = new ValidatorResults();
+                final ParameterValues values = new ParameterValues(new HashMap<>(params));
+                values.set(ParameterValues.VALIDATOR_RESULTS, results);
+                values.set(ParameterValues.FIELD, field);
+                final ValidatorResults fieldResults = values.getFieldResults();
+                validate(values, actions, fieldResults);
+                results.merge(fieldResults);
+                return results;
+            } finally {
+                thread.setContextClassLoader(previous);
+            }
+        }
+    }
+
+    /**
+     * Adds an action and the actions it depends on, once each, skipping the missing ones.
+     */
+    private static void addJavascriptAction(final String name, final Map<String, ValidatorAction> actions, final Map<String, ValidatorAction> required) {
+        if (required.containsKey(name)) {
+            return;
+        }
+        final ValidatorAction action = actions.get(name);
+        if (action == null) {
+            return;
+        }
+        required.put(name, action);
+        for (final String dependency : action.getDependencyList()) {
+            addJavascriptAction(dependency, actions, required);
+        }
+    }
+
+    /**
+     * Builds the script of the JavaScript functions of the actions the fields of a form depend on, with their dependencies, each function once.
+     *
+     * @param form    The form.
+     * @param actions A Map of validator names to ValidatorAction objects.
+     * @return The minified script in UTF-8.
+     */
+    static byte[] buildJavascript(final Form form, final Map<String, ValidatorAction> actions) {
+        final Map<String, ValidatorAction> required = new LinkedHashMap<>();
+        for (final Field field : form.getFields()) {
+            for (final String name : field.getDependencyList()) {
+                addJavascriptAction(name, actions, required);
+            }
+        }
+        final StringBuilder script = new StringBuilder();
+        for (final ValidatorAction action : required.values()) {
+            final String javascript = action.getJavascript();
+            if (javascript != null) {
+                minify(javascript, script);
+            }
+        }
+        return script.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the quote of the string or template literal a line of script ends in.
+     * <p>
+     * A template literal continues on the next line, a string in quotes only after a backslash. Quotes after a line comment are not counted.
+     * </p>
+     *
+     * @param line The line.
+     * @param open The quote of the string the line starts in, or 0.
+     * @return The quote of the string the next line starts in, or 0.
+     */
+    private static char endQuote(final String line, final char open) {
+        char quote = open;
+        boolean continued = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (quote != 0) {
+                if (c == '\\') {
+                    continued = i == line.length() - 1;
+                    i++;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'' || c == '`') {
+                quote = c;
+            } else if (c == '/' && line.startsWith("//", i)) {
+                break;
+            }
+        }
+        return quote == '`' || continued ? quote : 0;
+    }
+
+    /**
+     * Appends a script without its indentation, trailing spaces, blank lines, line comments and the block comments that start a line.
+     * <p>
+     * The line breaks are kept, so that the script means the same without relying on how semicolons are inserted, and comment markers inside a line,
+     * which could be in a string or a regular expression, are left alone. A line that continues a template literal or a string, after a backslash, is
+     * appended as it is.
+     * </p>
+     */
+    static void minify(final String javascript, final StringBuilder script) {
+        boolean comment = false;
+        char quote = 0;
+        for (final String line : javascript.split("\n")) {
+            if (quote != 0) {
+                quote = endQuote(line, quote);
+                script.append(quote == 0 ? stripTrailing(line) : line).append('\n');
+                continue;
+            }
+            String text = stripLeading(line);
+            if (comment || text.startsWith("/*")) {
+                final int end = text.indexOf("*/", comment ? 0 : 2);
+                comment = end < 0;
+                if (comment) {
+                    continue;
+                }
+                text = stripLeading(text.substring(end + 2));
+            }
+            if (!text.isEmpty() && !text.startsWith("//")) {
+                quote = endQuote(text, (char) 0);
+                script.append(quote == 0 ? stripTrailing(text) : text).append('\n');
+            }
+        }
+    }
+
+    /**
+     * Removes the whitespace at the start of a line.
+     */
+    private static String stripLeading(final String line) {
+        int start = 0;
+        while (start < line.length() && Character.isWhitespace(line.charAt(start))) {
+            start++;
+        }
+        return line.substring(start);
+    }
+
+    /**
+     * Removes the whitespace at the end of a line.
+     */
+    private static String stripTrailing(final String line) {
+        int end = line.length();
+        while (end > 0 && Character.isWhitespace(line.charAt(end - 1))) {
+            end--;
+        }
+        return line.substring(0, end);
+    }
+
+    private final Form form;
+
+    private final Map<String, ValidatorAction> actions;
+
+    private final FieldPlan[] fields;
+
+    /** The field plans by field, to validate a single field. */
+    private final Map<Field, FieldPlan> fieldPlans;
+
+    /** The script of {@link #getJavascript()}, built on first use. */
+    private volatile byte[] javascript;
+
+    /**
+     * Compiles the plan of a processed form.
+     *
+     * @param form    The form.
+     * @param actions A Map of validator names to ValidatorAction objects.
+     */
+    FormPlan(final Form form, final Map<String, ValidatorAction> actions) {
+        this.form = form;
+        this.actions = actions;
+        final List<Field> formFields = form.getFields();
+        fields = new FieldPlan[formFields.size()];
+        final Map<Field, FieldPlan> byField = new IdentityHashMap<>();
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = new FieldPlan(formFields.get(i), actions);
+            byField.put(fields[i].field, fields[i]);
+        }
+        fieldPlans = Collections.unmodifiableMap(byField);
+    }
+
+    /**
+     * Gets the script of the JavaScript functions of the actions the fields of the form depend on, built once.
+     *
+     * @return The minified script in UTF-8, not to be modified.
+     */
+    byte[] getJavascript() {
+        byte[] script = javascript;
+        if (script == null) {
+            script = buildJavascript(form, actions);
+            javascript = script;
+        }
+        return script;
+    }
+
+    /**
+     * Gets the form this plan was compiled from.
+     *
+     * @return The form.
+     */
+    Form getForm() {
+        return form;
+    }
+
+    /**
+     * Validates the fields of the form on the given page and below, as {@link Form#validate(Map, Map, int, String)} does.
+     *
+     * @param values    The values of the parameters to pass into validation methods, cleared.
+     * @param page      Fields on pages higher than this will not be validated.
+     * @param fieldName The key of the only field to validate or {@code null} to validate all fields.
+     * @param results   The empty results to add the validation messages to.
+     * @return The results.
+     * @throws ValidatorException If an error occurs during validation.
+     */
+    ValidatorResults validate(final ParameterValues values, final int page, final String fieldName, final ValidatorResults results)
+            throws ValidatorException {
+        values.set(ParameterValues.VALIDATOR_RESULTS, results);
+        // Only validate a single field if specified
+        if (fieldName != null) {
+            final Field formField = form.getField(fieldName);
+            if (formField == null) {
+                throw new ValidatorException("Unknown field %s in form %s", fieldName, form.getName());
+            }
+            final FieldPlan field = fieldPlans.get(formField);
+            values.set(ParameterValues.FIELD, formField);
+            if (formField.getPage() <= page) {
+                final ValidatorResults fieldResults = values.getFieldResults();
+                if (field == null) {
+                    formField.validate(values, actions, fieldResults);
+                } else {
+                    field.validate(values, actions, fieldResults);
+                }
+                results.merge(fieldResults);
+            }
+        } else {
+            for (final FieldPlan field : fields) {
+                values.set(ParameterValues.FIELD, field.field);
+                if (field.page <= page) {
+                    final ValidatorResults fieldResults = values.getFieldResults();
+                    field.validate(values, actions, fieldResults);
+                    results.merge(fieldResults);
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Validates the fields of the form on the given page and below, as {@link #validate(ParameterValues, int, String, ValidatorResults)} does, reusing the
+     * results of the fields whose value is the same as when they were last validated.
+     *
+     * @param values    The values of the parameters to pass into validation methods, cleared.
+     * @param page      Fields on pages higher than this will not be validated.
+     * @param validated The results of the fields validated before, checked for this validation.
+     * @param results   The empty results to add the validation messages to.
+     * @return The results.
+     * @throws ValidatorException If an error occurs during validation.
+     */
+    ValidatorResults validate(final ParameterValues values, final int page, final ValidatedFields validated, final ValidatorResults results)
+            throws ValidatorException {
+        values.set(ParameterValues.VALIDATOR_RESULTS, results);
+        final Object bean = values.get(ParameterValues.BEAN);
+        for (final FieldPlan field : fields) {
+            values.set(ParameterValues.FIELD, field.field);
+            if (field.page <= page) {
+                final Object value = field.actions != null && !field.field.isIndexed() ? ValidatedFields.valueOf(bean, field.field) : ValidatedFields.UNKNOWN;
+                final ValidatorResults previous = validated.get(field.field, value);
+                if (previous != null) {
+                    // the caller may change the results it gets, so it gets copies of those kept
+                    results.mergeCopies(previous);
+                    continue;
+                }
+                final ValidatorResults fieldResults = values.getFieldResults();
+                field.validate(values, actions, fieldResults);
+                validated.put(field.field, value, fieldResults);
+                results.merge(fieldResults);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Validates the fields of the form on the given page and below concurrently, each in a task run by the given executor, and merges their results in
+     * the order of the fields, as {@link #validate(ParameterValues, int, String, ValidatorResults)} would.
+     * <p>
+     * Each task has its own copy of the parameters, with its own {@code Field} and its own {@code ValidatorResults}, which holds the results of that
+     * field only, and runs with the context class loader of the calling thread. If fields fail with an exception, the exception of the first of them is
+     * thrown.
+     * </p>
+     *
+     * @param params   A Map of parameter class names to parameter values to pass into validation methods.
+     * @param page     Fields on pages higher than this will not be validated.
+     * @param executor The executor to run the tasks.
+     * @param results  The empty results to add the validation messages to.
+     * @return The results.
+     * @throws ValidatorException If an error occurs during validation, or if the calling thread is interrupted while waiting for the tasks.
+     */
+    ValidatorResults validate(final Map<String, Object> params, final int page, final Executor executor, final ValidatorResults results)
+            throws ValidatorException {
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        final List<FutureTask<ValidatorResults>> tasks = new ArrayList<>(fields.length);
+        for (final FieldPlan field : fields) {
+            if (field.page <= page) {
+                tasks.add(new FutureTask<>(() -> field.validate(params, actions, contextClassLoader)));
+            }
+        }
+        try {
+            for (final FutureTask<ValidatorResults> task : tasks) {
+                executor.execute(task);
+            }
+            for (final FutureTask<ValidatorResults> task : tasks) {
+                results.merge(task.get());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValidatorException("Interrupted while validating form " + form.getName(), e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof ValidatorException) {
+                throw (ValidatorException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ValidatorException(cause);
+        } finally {
+            for (final FutureTask<ValidatorResults> task : tasks) {
+                task.cancel(true);
+            }
+        }
+        return results;
+    }
+}
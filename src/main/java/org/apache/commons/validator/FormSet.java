@@ -101,6 +101,18 @@ public class FormSet implements Serializable {
         // empty
     }
 
+    /**
+     * Adds the constants and forms of a {@code FormSet} for the same locale
+     * that was parsed from a later file, as if that file had been parsed into
+     * this {@code FormSet}: existing constants and forms are kept.
+     *
+     * @param parsed The {@code FormSet} parsed from a later file.
+     */
+    void addAll(final FormSet parsed) {
+        parsed.constants.forEach(this::addConstant);
+        parsed.forms.values().forEach(this::addForm);
+    }
+
     /**
      * Add a {@code Constant} to the locale level.
      *
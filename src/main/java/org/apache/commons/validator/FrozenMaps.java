@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.OptionalDataException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.collections.FastHashMap;
+
+/**
+ * Creates the immutable snapshots of the resources model that processing publishes for the read path.
+ * <p>
+ * The model is built in the deprecated {@code FastHashMap} fields, which stay for compatibility with subclasses. Once processed, each model object reads
+ * from an unmodifiable copy instead: the shared empty map, a singleton map, or a {@link HashMap} sized to its contents. The entries then live in the copy
+ * only: {@link #freeze(Map)} empties the build-time map, so a processed model holds each entry once. Adding to a model object, or asking for its
+ * build-time map, first moves the entries back with {@link #thaw(Map, Map)} and drops the copy until the model object is processed again.
+ * </p>
+ */
+final class FrozenMaps {
+
+    /**
+     * Creates an immutable copy of a map.
+     *
+     * @param <K> The key type.
+     * @param <V> The value type.
+     * @param map The map to copy.
+     * @return An unmodifiable map with the same entries.
+     */
+    static <K, V> Map<K, V> copyOf(final Map<K, V> map) {
+        switch (map.size()) {
+        case 0:
+            return Collections.emptyMap();
+        case 1:
+            final Map.Entry<K, V> entry = map.entrySet().iterator().next();
+            return Collections.singletonMap(entry.getKey(), entry.getValue());
+        default:
+            final Map<K, V> copy = new HashMap<>((int) (map.size() / 0.75f) + 1); // CHECKSTYLE IGNORE MagicNumber
+            copy.putAll(map);
+            return Collections.unmodifiableMap(copy);
+        }
+    }
+
+    /**
+     * Creates an immutable copy of a build-time map and empties the map.
+     *
+     * @param <K> The key type.
+     * @param <V> The value type.
+     * @param map The build-time map.
+     * @return An unmodifiable map with the entries the map had.
+     */
+    static <K, V> Map<K, V> freeze(final Map<K, V> map) {
+        final Map<K, V> frozen = copyOf(map);
+        if (map instanceof FastHashMap) {
+            final FastHashMap fastHashMap = (FastHashMap) map;
+            final boolean fast = fastHashMap.getFast();
+            // in fast mode, clear() replaces the delegate map, releasing its table too
+            fastHashMap.setFast(true);
+            fastHashMap.clear();
+            fastHashMap.setFast(fast);
+        } else {
+            map.clear();
+        }
+        return frozen;
+    }
+
+    /**
+     * Reads an immutable copy written after the serializable fields of a model object.
+     *
+     * @param <K> The key type.
+     * @param <V> The value type.
+     * @param in  The stream to read from.
+     * @return The copy, or {@code null} if the model object was not frozen or was written without its copies.
+     * @throws IOException            if an I/O error occurs.
+     * @throws ClassNotFoundException if the class of a serialized object cannot be found.
+     */
+    @SuppressWarnings("unchecked") // the model object wrote the copy it reads back
+    static <K, V> Map<K, V> read(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        try {
+            return (Map<K, V>) in.readObject();
+        } catch (final OptionalDataException e) {
+            if (e.eof) { // written by a version that kept the entries in the build-time map
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Moves the entries of an immutable copy back into the build-time map it was frozen from.
+     *
+     * @param <K>    The key type.
+     * @param <V>    The value type.
+     * @param map    The build-time map.
+     * @param frozen The copy or {@code null} if the map is not frozen.
+     */
+    static <K, V> void thaw(final Map<K, V> map, final Map<K, V> frozen) {
+        if (frozen != null) {
+            map.putAll(frozen);
+        }
+    }
+
+    private FrozenMaps() {
+        // static only
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * The values of the validation method parameters for one validation, held in slots so that a {@link ValidatorAction} can bind its parameters by index.
+ * <p>
+ * The well-known parameters (the bean, the {@code Validator}, the {@code Form}, the {@code Field}, the {@code ValidatorResults} and the {@code Locale}) are
+ * read from the parameter {@code Map} the first time they are needed, instead of once per parameter of every validation method that is run. Parameters
+ * with any other class name are still looked up in the {@code Map}.
+ * </p>
+ * <p>
+ * An instance also keeps the argument arrays passed to the validation methods, one per length, and the results of the field and of the item being
+ * validated, so that they are not allocated for every call, field or item. Instances belong to a single validation at a time and are not thread safe;
+ * {@link #clear()} readies an instance for the next validation.
+ * </p>
+ */
+final class ParameterValues {
+
+    /** Slot of a parameter that is looked up in the {@code Map}. */
+    static final int CUSTOM = -1;
+
+    /** Slot of {@link Validator#BEAN_PARAM}. */
+    static final int BEAN = 0;
+
+    /** Slot of {@link Validator#VALIDATOR_ACTION_PARAM}. */
+    static final int VALIDATOR_ACTION = 1;
+
+    /** Slot of {@link Validator#FIELD_PARAM}. */
+    static final int FIELD = 2;
+
+    /** Slot of {@link Validator#VALIDATOR_PARAM}. */
+    static final int VALIDATOR = 3;
+
+    /** Slot of {@link Validator#VALIDATOR_RESULTS_PARAM}. */
+    static final int VALIDATOR_RESULTS = 4;
+
+    /** Slot of {@link Validator#LOCALE_PARAM}. */
+    static final int LOCALE = 5;
+
+    /** Slot of {@link Validator#FORM_PARAM}. */
+    static final int FORM = 6;
+
+    /** The number of slots. */
+    private static final int SLOTS = 7;
+
+    /** The class names of the well-known parameters, indexed by slot. */
+    private static final String[] CLASS_NAMES = { Validator.BEAN_PARAM, Validator.VALIDATOR_ACTION_PARAM, Validator.FIELD_PARAM, Validator.VALIDATOR_PARAM,
+            Validator.VALIDATOR_RESULTS_PARAM, Validator.LOCALE_PARAM, Validator.FORM_PARAM };
+
+    /**
+     * Gets the slot of a parameter class name.
+     *
+     * @param className The parameter class name.
+     * @return The slot or {@link #CUSTOM}.
+     */
+    static int slotOf(final String className) {
+        switch (className) {
+        case Validator.BEAN_PARAM:
+            return BEAN;
+        case Validator.VALIDATOR_ACTION_PARAM:
+            return VALIDATOR_ACTION;
+        case Validator.FIELD_PARAM:
+            return FIELD;
+        case Validator.VALIDATOR_PARAM:
+            return VALIDATOR;
+        case Validator.VALIDATOR_RESULTS_PARAM:
+            return VALIDATOR_RESULTS;
+        case Validator.LOCALE_PARAM:
+            return LOCALE;
+        case Validator.FORM_PARAM:
+            return FORM;
+        default:
+            return CUSTOM;
+        }
+    }
+
+    private final Map<String, Object> parameters;
+
+    private final Object[] values = new Object[SLOTS];
+
+    /** A bit for each slot that has been read from the {@code Map}. */
+    private int resolved;
+
+    /** Reusable argument arrays indexed by length. */
+    private Object[][] arguments = new Object[0][];
+
+    /** Reusable results of the field being validated, or {@code null} until needed. */
+    private ValidatorResults fieldResults;
+
+    /** Reusable results of the item of the field being validated, or {@code null} until needed. */
+    private ValidatorResults itemResults;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param parameters The parameter class names mapped to their values.
+     */
+    ParameterValues(final Map<String, Object> parameters) {
+        this.parameters = parameters;
+    }
+
+    /**
+     * Forgets the values read from the {@code Map} and set by the last validation, keeping the arrays and the results for the next one, emptied so that
+     * they do not hold on to the bean.
+     */
+    void clear() {
+        Arrays.fill(values, null);
+        resolved = 0;
+        for (final Object[] array : arguments) {
+            if (array != null) {
+                Arrays.fill(array, null);
+            }
+        }
+        if (fieldResults != null) {
+            fieldResults.clear();
+        }
+        if (itemResults != null) {
+            itemResults.clear();
+        }
+    }
+
+    /**
+     * Gets the value of a well-known parameter.
+     *
+     * @param slot The slot of the parameter, not {@link #CUSTOM}.
+     * @return The value.
+     */
+    Object get(final int slot) {
+        final int bit = 1 << slot;
+        if ((resolved & bit) == 0) {
+            values[slot] = parameters.get(CLASS_NAMES[slot]);
+            resolved |= bit;
+        }
+        return values[slot];
+    }
+
+    /**
+     * Gets an argument array of the given length, reusing the array returned by the last call for the same length.
+     *
+     * @param length The number of arguments.
+     * @return The array.
+     */
+    Object[] getArguments(final int length) {
+        if (length >= arguments.length) {
+            final Object[][] grown = new Object[length + 1][];
+            System.arraycopy(arguments, 0, grown, 0, arguments.length);
+            arguments = grown;
+        }
+        Object[] array = arguments[length];
+        if (array == null) {
+            array = new Object[length];
+            arguments[length] = array;
+        }
+        return array;
+    }
+
+    /**
+     * Gets the results of the field about to be validated: empty, and the same instance for each field, so they must be merged into the results of the
+     * form before the next field.
+     *
+     * @return The empty results.
+     */
+    ValidatorResults getFieldResults() {
+        if (fieldResults == null) {
+            fieldResults = new ValidatorResults();
+        } else {
+            fieldResults.clear();
+        }
+        return fieldResults;
+    }
+
+    /**
+     * Gets the results of the item about to be validated, the single value of a field or an item of an indexed field: empty, and the same instance for
+     * each item, so they must be merged into the results of the field before the next item.
+     *
+     * @return The empty results.
+     */
+    ValidatorResults getItemResults() {
+        if (itemResults == null) {
+            itemResults = new ValidatorResults();
+        } else {
+            itemResults.clear();
+        }
+        return itemResults;
+    }
+
+    /**
+     * Gets the {@code Map} the values are read from, where {@link #CUSTOM} parameters are looked up.
+     *
+     * @return The parameter {@code Map}.
+     */
+    Map<String, Object> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Gets the {@code Validator}.
+     *
+     * @return The {@code Validator}.
+     */
+    Validator getValidator() {
+        return (Validator) get(VALIDATOR);
+    }
+
+    /**
+     * Sets the value of a well-known parameter, keeping the {@code Map} in step.
+     *
+     * @param slot  The slot of the parameter.
+     * @param value The value.
+     */
+    void set(final int slot, final Object value) {
+        values[slot] = value;
+        resolved |= 1 << slot;
+        parameters.put(CLASS_NAMES[slot], value);
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.xml.sax.SAXException;
+
+/**
+ * Holds the current {@link ValidatorResources} of a set of validation.xml files and replaces them when the files change.
+ * <p>
+ * Each reload builds new resources from the files and, once they are processed, publishes them with a single volatile write. Resources are never changed
+ * after they are published: a {@link Validator} created from {@link #get()} keeps validating against the rules it was created with, while the next
+ * {@code Validator} sees the new rules. Reading the current resources takes no lock.
+ * </p>
+ * <pre>
+ * ReloadableValidatorResources rules = new ReloadableValidatorResources(Paths.get("validation.xml"));
+ * rules.watch();
+ * ...
+ * Validator validator = new Validator(rules.get(), "registrationForm");
+ * </pre>
+ * <p>
+ * {@link #watch()} reloads on a daemon thread when a file is created or modified, once the file has been quiet for a short time. If a reload fails, the
+ * error is logged and the previous resources stay current.
+ * </p>
+ *
+ * @since 1.11.1
+ */
+public final class ReloadableValidatorResources implements Closeable {
+
+    /**
+     * Builds processed resources from validation.xml files.
+     */
+    @FunctionalInterface
+    public interface Loader {
+
+        /**
+         * Builds processed resources from validation.xml files.
+         *
+         * @param urls The files, in the order they are to be merged.
+         * @return The processed resources.
+         * @throws IOException  Thrown if a file cannot be read.
+         * @throws SAXException Thrown if a file is not valid or well-formed.
+         */
+        ValidatorResources load(URL[] urls) throws IOException, SAXException;
+    }
+
+    /** How long the files must be quiet after a change before they are reloaded. */
+    private static final long QUIET_MILLIS = 100;
+
+    private static final Log LOG = LogFactory.getLog(ReloadableValidatorResources.class);
+
+    private final Loader loader;
+
+    /** The files, absolute and normalized. */
+    private final Path[] paths;
+
+    private volatile ValidatorResources resources;
+
+    /** The watch service of {@link #watch()}, or {@code null} if the files are not watched. */
+    private WatchService watchService;
+
+    /**
+     * Loads the resources of validation.xml files with {@link ValidatorResources#ValidatorResources(URL[])}.
+     *
+     * @param paths The validation.xml files, in the order they are to be merged.
+     * @throws IOException  Thrown if a file cannot be read.
+     * @throws SAXException Thrown if a file is not valid or well-formed.
+     */
+    public ReloadableValidatorResources(final Path... paths) throws IOException, SAXException {
+        this(ValidatorResources::new, paths);
+    }
+
+    /**
+     * Loads the resources of validation.xml files with the given loader, for example {@code new ValidatorResourcesLoader()::load}.
+     *
+     * @param loader The loader to build the resources with on each reload.
+     * @param paths  The validation.xml files, in the order they are to be merged.
+     * @throws IOException  Thrown if a file cannot be read.
+     * @throws SAXException Thrown if a file is not valid or well-formed.
+     */
+    public ReloadableValidatorResources(final Loader loader, final Path... paths) throws IOException, SAXException {
+        if (loader == null) {
+            throw new IllegalArgumentException("Loader cannot be null.");
+        }
+        this.loader = loader;
+        this.paths = new Path[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            if (paths[i] == null) {
+                throw new IllegalArgumentException("Path[" + i + "] is null");
+            }
+            this.paths[i] = paths[i].toAbsolutePath().normalize();
+        }
+        reload();
+    }
+
+    /**
+     * Stops watching the files. The current resources stay available.
+     *
+     * @throws IOException if the watch service cannot be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            watchService = null;
+        }
+    }
+
+    /**
+     * Gets the current resources.
+     *
+     * @return The resources most recently loaded.
+     */
+    public ValidatorResources get() {
+        return resources;
+    }
+
+    /**
+     * Tests whether an event of a watch key is about one of the files, and resets the key.
+     */
+    private boolean isChanged(final WatchKey key, final Set<Path> files) {
+        boolean changed = false;
+        for (final WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                changed = true;
+            } else {
+                changed |= files.contains(((Path) key.watchable()).resolve((Path) event.context()));
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    /**
+     * Loads the files again and makes the new resources current. If loading fails, the current resources stay current.
+     *
+     * @throws IOException  Thrown if a file cannot be read.
+     * @throws SAXException Thrown if a file is not valid or well-formed.
+     */
+    public synchronized void reload() throws IOException, SAXException {
+        final URL[] urls = new URL[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            urls[i] = paths[i].toUri().toURL();
+        }
+        final ValidatorResources loaded = loader.load(urls);
+        if (loaded == null) {
+            throw new IllegalStateException("The loader returned no resources");
+        }
+        resources = loaded;
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Loaded validation rules from " + Arrays.toString(paths));
+        }
+    }
+
+    /**
+     * Waits for changes to the files and reloads them, until the watch service is closed.
+     */
+    private void run(final WatchService service) {
+        final Set<Path> files = new HashSet<>(Arrays.asList(paths));
+        try {
+            while (true) {
+                boolean changed = isChanged(service.take(), files);
+                // wait for the files to be quiet
+                WatchKey key;
+                while ((key = service.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= isChanged(key, files);
+                }
+                if (changed) {
+                    try {
+                        reload();
+                    } catch (final IOException | SAXException | RuntimeException e) {
+                        LOG.error("Keeping the current validation rules: " + e.getMessage(), e);
+                    }
+                }
+            }
+        } catch (final ClosedWatchServiceException e) {
+            // closed
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Starts watching the directories of the files and reloading when a file is created or modified. Does nothing if the files are already watched.
+     *
+     * @throws IOException if the directories cannot be watched.
+     */
+    public synchronized void watch() throws IOException {
+        if (watchService != null || paths.length == 0) {
+            return;
+        }
+        final WatchService service = paths[0].getFileSystem().newWatchService();
+        try {
+            final Set<Path> directories = new HashSet<>();
+            for (final Path path : paths) {
+                final Path directory = path.getParent();
+                if (directories.add(directory)) {
+                    directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+                }
+            }
+        } catch (final IOException e) {
+            service.close();
+            throw e;
+        }
+        final Thread thread = new Thread(() -> run(service), "ValidatorResources watcher");
+        thread.setDaemon(true);
+        thread.start();
+        watchService = service;
+    }
+}
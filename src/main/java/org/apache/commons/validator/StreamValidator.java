@@ -0,0 +1,353 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * Validates a sequence of beans against one form, such as the records of a batch read one at a time, and hands the results of each bean to a
+ * {@link Sink}.
+ * <p>
+ * The form is resolved once, when the {@code StreamValidator} is created from a {@link Validator} set up for one bean: its form, field, page,
+ * {@code onlyReturnErrors}, class loader and parameters other than the bean are used for every bean. A bean can be any object the form's properties
+ * are read from, such as a JavaBean or a {@link Map} of the values of a record. Each bean is validated with the same {@code Validator} and the same
+ * {@link ValidatorResults}, which are cleared for the next bean once the sink returns, so memory does not grow with the number of beans.
+ * </p>
+ * <pre>
+ * Validator validator = new Validator(resources, "recordForm");
+ * validator.setOnlyReturnErrors(true);
+ * StreamValidator records = new StreamValidator(validator);
+ * records.validate(parser.stream().map(CSVRecord::toMap), (index, record, results) -&gt; {
+ *     if (!results.isEmpty()) {
+ *         report(index, results);
+ *     }
+ * });
+ * </pre>
+ * <p>
+ * The beans can also be validated in batches on the threads of an {@link Executor}, each batch with a {@code Validator} of its own. The beans are read
+ * on the calling thread, and no more than the given number of batches are held at once.
+ * </p>
+ *
+ * @since 1.11.1
+ */
+public final class StreamValidator {
+
+    /**
+     * Receives the results of each bean.
+     */
+    @FunctionalInterface
+    public interface Sink {
+
+        /**
+         * Receives the results of a bean.
+         *
+         * @param index   The position of the bean in the sequence, from 0.
+         * @param bean    The bean.
+         * @param results The results of the bean, which are cleared once this method returns and must be copied to be kept.
+         * @throws ValidatorException To stop the validation of the sequence.
+         */
+        void accept(long index, Object bean, ValidatorResults results) throws ValidatorException;
+    }
+
+    /**
+     * Validates beans with a {@code Validator} and results of its own, in batches.
+     */
+    private final class Worker implements Runnable {
+
+        private final Validator validator = newValidator();
+
+        private final ValidatorResults results = new ValidatorResults();
+
+        private final Object[] beans;
+
+        private int size;
+
+        /** The index of the first bean of the batch. */
+        private long first;
+
+        private final Sink sink;
+
+        /** The workers not validating a batch, or {@code null} on the calling thread. */
+        private final BlockingQueue<Worker> idle;
+
+        private final AtomicReference<Throwable> failure;
+
+        private final ClassLoader contextClassLoader;
+
+        Worker(final int batchSize, final Sink sink, final BlockingQueue<Worker> idle, final AtomicReference<Throwable> failure) {
+            this.beans = new Object[batchSize];
+            this.sink = sink;
+            this.idle = idle;
+            this.failure = failure;
+            this.contextClassLoader = Thread.currentThread().getContextClassLoader();
+        }
+
+        /**
+         * Forgets the beans of the batch.
+         */
+        void clear() {
+            Arrays.fill(beans, 0, size, null);
+            size = 0;
+        }
+
+        @Override
+        public void run() {
+            final Thread thread = Thread.currentThread();
+            final ClassLoader previous = thread.getContextClassLoader();
+            thread.setContextClassLoader(contextClassLoader);
+            try {
+                if (failure.get() == null) {
+                    validate();
+                }
+            } catch (final Throwable e) { // NOPMD reported by the calling thread
+                failure.compareAndSet(null, e);
+            } finally {
+                clear();
+                thread.setContextClassLoader(previous);
+                idle.add(this);
+            }
+        }
+
+        /**
+         * Validates the beans of the batch.
+         */
+        void validate() throws ValidatorException {
+            try {
+                for (int i = 0; i < size; i++) {
+                    validator.setParameter(Validator.BEAN_PARAM, beans[i]);
+                    sink.accept(first + i, beans[i], validator.validate(results));
+                }
+            } finally {
+                validator.setParameter(Validator.BEAN_PARAM, null);
+                results.clear();
+            }
+        }
+    }
+
+    /** The number of beans of a batch validated on the threads of an executor. */
+    private static final int BATCH_SIZE = 256;
+
+    /**
+     * Waits until the workers have all finished their batches, even if the calling thread is interrupted, so that the sink is not called afterwards.
+     */
+    private static void awaitIdle(final BlockingQueue<Worker> idle, final int workers) {
+        boolean interrupted = false;
+        int finished = 0;
+        while (finished < workers) {
+            try {
+                idle.take();
+                finished++;
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private final ValidatorResources resources;
+
+    private final Form form;
+
+    private final String fieldName;
+
+    private final int page;
+
+    private final boolean onlyReturnErrors;
+
+    private final ClassLoader classLoader;
+
+    /** The parameters other than the bean. */
+    private final Map<String, Object> parameters;
+
+    /**
+     * Constructs a {@code StreamValidator} that validates beans as the given {@code Validator} would, with the form it resolves for the locale it has now.
+     * The {@code Validator} is not used afterwards.
+     *
+     * @param validator The {@code Validator} to validate as.
+     * @throws IllegalArgumentException if the {@code Validator} has no form.
+     */
+    public StreamValidator(final Validator validator) {
+        resources = validator.getResources();
+        final Form resolved = validator.getForm();
+        form = resolved != null ? resolved
+                : resources.getForm(Validator.toLocale((Locale) validator.getParameterValue(Validator.LOCALE_PARAM)), validator.getFormName());
+        if (form == null) {
+            throw new IllegalArgumentException("Form " + validator.getFormName() + " not found");
+        }
+        fieldName = validator.getFieldName();
+        page = validator.getPage();
+        onlyReturnErrors = validator.getOnlyReturnErrors();
+        classLoader = validator.getClassLoader();
+        parameters = new HashMap<>(validator.getParameters());
+        parameters.remove(Validator.BEAN_PARAM);
+    }
+
+    /**
+     * Creates a {@code Validator} for the form and the settings of this instance.
+     */
+    private Validator newValidator() {
+        final Validator validator = new Validator(resources);
+        validator.setForm(form);
+        validator.setFieldName(fieldName);
+        validator.setPage(page);
+        validator.setOnlyReturnErrors(onlyReturnErrors);
+        validator.setClassLoader(classLoader);
+        parameters.forEach(validator::setParameter);
+        return validator;
+    }
+
+    /**
+     * Validates each bean in turn on the calling thread.
+     *
+     * @param beans The beans.
+     * @param sink  The sink of the results of each bean.
+     * @return The number of beans validated.
+     * @throws ValidatorException If an error occurs during validation, or the sink stops it.
+     */
+    public long validate(final Iterator<?> beans, final Sink sink) throws ValidatorException {
+        Objects.requireNonNull(sink, "sink");
+        final Worker worker = new Worker(1, sink, null, null);
+        long count = 0;
+        try {
+            while (beans.hasNext()) {
+                worker.first = count;
+                worker.beans[0] = beans.next();
+                worker.size = 1;
+                worker.validate();
+                count++;
+            }
+        } finally {
+            worker.clear();
+        }
+        return count;
+    }
+
+    /**
+     * Validates the beans in batches on the threads of an executor. The sink may be called by several threads at once, and receives the beans of
+     * different batches in no particular order.
+     *
+     * @param beans    The beans.
+     * @param executor The executor to validate the batches.
+     * @param threads  The largest number of batches validated or waiting to be validated at once.
+     * @param sink     The sink of the results of each bean, which must be thread safe.
+     * @return The number of beans validated.
+     * @throws ValidatorException If an error occurs during validation, or the sink stops it, or the calling thread is interrupted.
+     */
+    public long validate(final Iterator<?> beans, final Executor executor, final int threads, final Sink sink) throws ValidatorException {
+        Objects.requireNonNull(executor, "executor");
+        Objects.requireNonNull(sink, "sink");
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads < 1: " + threads);
+        }
+        final BlockingQueue<Worker> idle = new ArrayBlockingQueue<>(threads);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        int created = 0;
+        long count = 0;
+        boolean completed = false;
+        try {
+            while (beans.hasNext() && failure.get() == null) {
+                Worker worker = idle.poll();
+                if (worker == null) {
+                    if (created < threads) {
+                        worker = new Worker(BATCH_SIZE, sink, idle, failure);
+                        created++;
+                    } else {
+                        worker = idle.take();
+                    }
+                }
+                boolean submitted = false;
+                try {
+                    worker.first = count;
+                    while (worker.size < BATCH_SIZE && beans.hasNext()) {
+                        worker.beans[worker.size++] = beans.next();
+                    }
+                    count += worker.size;
+                    executor.execute(worker);
+                    submitted = true;
+                } finally {
+                    if (!submitted) {
+                        worker.clear();
+                        idle.add(worker);
+                    }
+                }
+            }
+            completed = true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValidatorException("Interrupted while validating form " + form.getName(), e);
+        } finally {
+            if (!completed) {
+                // the batches not started yet are skipped
+                failure.compareAndSet(null, new CancellationException());
+            }
+            awaitIdle(idle, created);
+        }
+        final Throwable cause = failure.get();
+        if (cause instanceof ValidatorException) {
+            throw (ValidatorException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        if (cause != null) {
+            throw new ValidatorException(cause);
+        }
+        return count;
+    }
+
+    /**
+     * Validates the beans in batches on the threads of an executor, as {@link #validate(Iterator, Executor, int, Sink)} does.
+     *
+     * @param beans    The beans, not closed.
+     * @param executor The executor to validate the batches.
+     * @param threads  The largest number of batches validated or waiting to be validated at once.
+     * @param sink     The sink of the results of each bean, which must be thread safe.
+     * @return The number of beans validated.
+     * @throws ValidatorException If an error occurs during validation, or the sink stops it, or the calling thread is interrupted.
+     */
+    public long validate(final Stream<?> beans, final Executor executor, final int threads, final Sink sink) throws ValidatorException {
+        return validate(beans.iterator(), executor, threads, sink);
+    }
+
+    /**
+     * Validates each bean in turn on the calling thread.
+     *
+     * @param beans The beans, not closed.
+     * @param sink  The sink of the results of each bean.
+     * @return The number of beans validated.
+     * @throws ValidatorException If an error occurs during validation, or the sink stops it.
+     */
+    public long validate(final Stream<?> beans, final Sink sink) throws ValidatorException {
+        return validate(beans.iterator(), sink);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.commons.validator.util.ValidatorUtils;
+
+/**
+ * The results of the fields validated by the incremental validations of a {@link Validator}, each with the value of the field it was validated with.
+ * <p>
+ * The results of a field are reused while the value of its property is equal to that value. Only values of immutable types, such as strings, numbers and
+ * enums, are remembered: a field whose value is of another type, or is indexed, or is not compiled into the {@link FormPlan}, is validated every time.
+ * The results are forgotten when the plan, the bean, the locale or {@code onlyReturnErrors} of the validation changes. Instances are not thread safe.
+ * </p>
+ */
+final class ValidatedFields {
+
+    /**
+     * The results of a field and the value it was validated with.
+     */
+    private static final class Entry {
+
+        private final Object value;
+
+        private final ValidatorResults results;
+
+        Entry(final Object value, final ValidatorResults results) {
+            this.value = value;
+            this.results = results;
+        }
+    }
+
+    /** The value of a field whose results are not remembered. */
+    static final Object UNKNOWN = new Object();
+
+    /** The immutable value types, besides enums. */
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(String.class, Boolean.class, Character.class, Byte.class,
+            Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class));
+
+    /**
+     * Reads the value of the property of a field to compare with the value its results were validated with.
+     *
+     * @param bean  The bean.
+     * @param field The field, not indexed.
+     * @return The value, or {@link #UNKNOWN} if it cannot be compared.
+     */
+    static Object valueOf(final Object bean, final Field field) {
+        final String property = field.getProperty();
+        if (bean == null || property == null || property.isEmpty()) {
+            return UNKNOWN;
+        }
+        final Object value;
+        try {
+            value = ValidatorUtils.getProperty(bean, property);
+        } catch (final ReflectiveOperationException | RuntimeException e) { // NOPMD the validation reports it
+            return UNKNOWN;
+        }
+        return value == null || value instanceof Enum || IMMUTABLE_TYPES.contains(value.getClass()) ? value : UNKNOWN;
+    }
+
+    private final Map<Field, Entry> entries = new IdentityHashMap<>();
+
+    private FormPlan plan;
+
+    private Object bean;
+
+    private Object locale;
+
+    private boolean onlyReturnErrors;
+
+    /**
+     * Forgets the results if the validation about to run differs from the previous one in more than the values of the fields.
+     *
+     * @param plan             The plan of the form.
+     * @param bean             The bean.
+     * @param locale           The value of the locale parameter.
+     * @param onlyReturnErrors Whether only the failed fields are returned.
+     */
+    void check(final FormPlan plan, final Object bean, final Object locale, final boolean onlyReturnErrors) {
+        if (plan != this.plan || bean != this.bean || !Objects.equals(locale, this.locale) || onlyReturnErrors != this.onlyReturnErrors) {
+            entries.clear();
+            this.plan = plan;
+            this.bean = bean;
+            this.locale = locale;
+            this.onlyReturnErrors = onlyReturnErrors;
+        }
+    }
+
+    /**
+     * Gets the results of a field validated with an equal value.
+     *
+     * @param field The field.
+     * @param value The value of the field, from {@link #valueOf(Object, Field)}.
+     * @return The results or {@code null} if the field must be validated.
+     */
+    ValidatorResults get(final Field field, final Object value) {
+        if (value == UNKNOWN) {
+            return null;
+        }
+        final Entry entry = entries.get(field);
+        return entry != null && Objects.equals(entry.value, value) ? entry.results : null;
+    }
+
+    /**
+     * Remembers the results of a field.
+     *
+     * @param field   The field.
+     * @param value   The value the field was validated with, from {@link #valueOf(Object, Field)}.
+     * @param results The results of the field, copied.
+     */
+    void put(final Field field, final Object value, final ValidatorResults results) {
+        if (value == UNKNOWN) {
+            entries.remove(field);
+            return;
+        }
+        final ValidatorResults copy = new ValidatorResults();
+        copy.mergeCopies(results);
+        entries.put(field, new Entry(value, copy));
+    }
+}
@@ -20,6 +20,8 @@ import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * Validations are processed by the validate method. An instance of
@@ -102,6 +104,11 @@ public class Validator implements Serializable {
     @Deprecated
     protected transient ClassLoader classLoader;
 
+    /**
+     * The executor to validate the fields of a form concurrently, or {@code null} to validate them on the calling thread.
+     */
+    private transient Executor executor;
+
     /**
      * The name of the field on the form to validate
      *
@@ -112,6 +119,21 @@ public class Validator implements Serializable {
     @Deprecated
     protected String fieldName;
 
+    /**
+     * The form to validate, resolved by the caller, or {@code null} to resolve the form of the name and locale.
+     */
+    private Form form;
+
+    /**
+     * Whether the results of the fields whose value did not change since the last validation are reused.
+     */
+    private boolean incremental;
+
+    /**
+     * The results of the fields of the last incremental validations, or {@code null}.
+     */
+    private transient ValidatedFields validatedFields;
+
     /**
      * The name of the form to validate
      *
@@ -145,6 +167,11 @@ public class Validator implements Serializable {
     @Deprecated
     protected Map<String, Object> parameters = new HashMap<>();
 
+    /**
+     * The values of the parameters kept from one validation to the next, or {@code null} while a validation uses them.
+     */
+    private transient ParameterValues parameterValues;
+
     /**
      * The Validator Resources.
      *
@@ -223,6 +250,8 @@ public class Validator implements Serializable {
      * again and is thread safe.
      */
     public void clear() {
+        form = null;
+        validatedFields = null;
         formName = null;
         fieldName = null;
         parameters.clear();
@@ -256,6 +285,17 @@ public class Validator implements Serializable {
         return this.getClass().getClassLoader();
     }
 
+    /**
+     * Gets the executor the fields of a form are validated on.
+     *
+     * @return The executor, or {@code null} if the fields are validated on the calling thread.
+     * @see #setExecutor(Executor)
+     * @since 1.11.1
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
     /**
      * Gets the field name.
      *
@@ -266,6 +306,16 @@ public class Validator implements Serializable {
         return fieldName;
     }
 
+    /**
+     * Gets the form resolved by the caller.
+     *
+     * @return The form or {@code null} if the form is resolved from its name.
+     * @since 1.11.1
+     */
+    public Form getForm() {
+        return form;
+    }
+
     /**
      * Gets the form name which is the key to a set of validation rules.
      *
@@ -340,6 +390,33 @@ public class Validator implements Serializable {
         return useContextClassLoader;
     }
 
+    /**
+     * Returns whether the results of the fields whose value did not change
+     * since the last validation are reused.
+     *
+     * @return whether validations are incremental.
+     * @see #setIncremental(boolean)
+     * @since 1.11.1
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Clears the parameters that were added, such as the JavaBean validated,
+     * so that this instance can validate another one with the same form,
+     * field, page and options. Unlike {@link #clear()}, the form does not have
+     * to be set again, and the parameter {@link Map} and what the last
+     * validation allocated are kept for the next one, so a service can keep
+     * one {@code Validator} per thread instead of constructing one for every
+     * bean.
+     *
+     * @since 1.11.1
+     */
+    public void reset() {
+        parameters.clear();
+    }
+
     /**
      * Sets the class loader to be used for instantiating application objects
      * when required.
@@ -351,6 +428,25 @@ public class Validator implements Serializable {
         this.classLoader = classLoader;
     }
 
+    /**
+     * Sets the executor to validate the fields of a form concurrently, for forms whose validation methods are expensive, such as checks of large
+     * indexed collections. The default is {@code null}, which validates the fields one after the other on the calling thread.
+     * <p>
+     * When all the fields of a form are validated, each field is validated in a task run by the executor, for example a
+     * {@link java.util.concurrent.ForkJoinPool}, and the results are merged in the order of the fields, so they are the same as those of a serial
+     * validation. Each task has its own copy of the parameters: the {@code Field} parameter is the field of the task, and the {@code ValidatorResults}
+     * parameter holds the results of that field only, so the validation methods must not depend on the results of other fields. The bean and any other
+     * parameter are shared, and must be safe to read from several threads. A single field, or a form whose {@code ValidatorResources} have not been
+     * processed, is validated on the calling thread.
+     * </p>
+     *
+     * @param executor The executor, or {@code null} to validate on the calling thread.
+     * @since 1.11.1
+     */
+    public void setExecutor(final Executor executor) {
+        this.executor = executor;
+    }
+
     /**
      * Sets the name of the field to validate in a form (optional)
      *
@@ -361,15 +457,63 @@ public class Validator implements Serializable {
         this.fieldName = fieldName;
     }
 
+    /**
+     * Sets a form already resolved from the {@code ValidatorResources}, for
+     * instance once per locale with {@link ValidatorResources#getForm(Locale, String)},
+     * so that validating does not resolve the form of the locale again. The
+     * form name becomes the name of the form; {@link #setFormName(String)}
+     * and {@link #clear()} go back to resolving the form from its name.
+     *
+     * @param form The form to validate, or {@code null} to resolve the form from its name.
+     * @since 1.11.1
+     */
+    public void setForm(final Form form) {
+        this.form = form;
+        if (form != null) {
+            this.formName = form.getName();
+        }
+    }
+
     /**
      * Sets the form name which is the key to a set of validation rules.
      *
      * @param formName The name of the form.
      */
     public void setFormName(final String formName) {
+        this.form = null;
         this.formName = formName;
     }
 
+    /**
+     * Sets whether the results of the fields whose value did not change since
+     * the last validation are reused, for instance when a multi-page wizard
+     * validates the same bean with an increasing page, so that each
+     * validation only runs the rules of the fields that changed or that it
+     * adds.
+     * <p>
+     * The results of a field are reused while the value of its property is
+     * equal to the one it was last validated with. Only values of immutable
+     * types, such as strings, numbers and enums, are compared: other fields,
+     * and indexed fields, are validated every time. The results are forgotten
+     * when the form, the bean, the locale or {@code onlyReturnErrors} changes.
+     * Turn this on only for forms whose rules read nothing but the value of
+     * their own field: a rule that reads another field or parameter, such as
+     * {@code validwhen}, would keep results that are out of date. The
+     * validations of a single field, and those of a form whose plan is not
+     * compiled, are never incremental, and an incremental validation does not
+     * use the executor.
+     * </p>
+     *
+     * @param incremental whether validations are incremental.
+     * @since 1.11.1
+     */
+    public void setIncremental(final boolean incremental) {
+        this.incremental = incremental;
+        if (!incremental) {
+            validatedFields = null;
+        }
+    }
+
     /**
      * Configures which Fields the Validator returns from the validate() method.  Set this
      * to true to only return Fields that failed validation.  By default, validate() returns
@@ -430,15 +574,57 @@ public class Validator implements Serializable {
      * @throws ValidatorException If an error occurs during validation
      */
     public ValidatorResults validate() throws ValidatorException {
-        Locale locale = (Locale) getParameterValue(LOCALE_PARAM);
-        locale = toLocale(locale);
+        return validate(new ValidatorResults());
+    }
+
+    /**
+     * Performs validations based on the configured resources, recording the results in the given {@code ValidatorResults} after clearing it.
+     * <p>
+     * Passing the same instance to each validation reuses it: results are only allocated for the fields and actions that are recorded, so with
+     * {@link #setOnlyReturnErrors(boolean) onlyReturnErrors} the validation of a valid bean allocates next to nothing. The results of the previous
+     * validation are lost.
+     * </p>
+     *
+     * @param results The results to clear and fill.
+     * @return The given results.
+     * @throws ValidatorException If an error occurs during validation
+     * @since 1.11.1
+     */
+    public ValidatorResults validate(final ValidatorResults results) throws ValidatorException {
+        Objects.requireNonNull(results, "results");
+        results.clear();
         setParameter(VALIDATOR_PARAM, this);
-        final Form form = resources.getForm(locale, formName);
+        final Form form = this.form != null ? this.form : resources.getForm(toLocale((Locale) getParameterValue(LOCALE_PARAM)), formName);
         if (form != null) {
             setParameter(FORM_PARAM, form);
-            return form.validate(parameters, resources.getValidatorActions(), page, fieldName);
+            final FormPlan plan = resources.getFormPlan(form);
+            if (plan != null) {
+                if (executor != null && fieldName == null && !incremental) {
+                    return plan.validate(parameters, page, executor, results);
+                }
+                // a validation method that validates with this instance again gets values of its own
+                ParameterValues values = parameterValues;
+                parameterValues = null;
+                if (values == null || values.getParameters() != parameters) {
+                    values = new ParameterValues(parameters);
+                }
+                try {
+                    if (incremental && fieldName == null) {
+                        if (validatedFields == null) {
+                            validatedFields = new ValidatedFields();
+                        }
+                        validatedFields.check(plan, getParameterValue(BEAN_PARAM), getParameterValue(LOCALE_PARAM), onlyReturnErrors);
+                        return plan.validate(values, page, validatedFields, results);
+                    }
+                    return plan.validate(values, page, fieldName, results);
+                } finally {
+                    values.clear();
+                    parameterValues = values;
+                }
+            }
+            return form.validate(parameters, resources.getValidatorActions(), page, fieldName, results);
         }
-        return new ValidatorResults();
+        return results;
     }
 
 }
@@ -20,7 +20,11 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -28,12 +32,11 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.apache.commons.validator.util.ValidatorUtils;
 
 /**
  * Contains the information to dynamically create and run a validation method. This is the class representation of a pluggable validator that can be defined in
@@ -46,6 +49,43 @@ public class ValidatorAction implements Serializable {
 
     private static final long serialVersionUID = 1339713700053204597L;
 
+    /**
+     * The type every validation method is adapted to: it takes the parameter values as an array and returns the boxed result, {@code null} for a
+     * {@code void} method.
+     */
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    /**
+     * Publishes {@link #validationHandle} once.
+     */
+    private static final AtomicReferenceFieldUpdater<ValidatorAction, MethodHandle> VALIDATION_HANDLE = AtomicReferenceFieldUpdater
+            .newUpdater(ValidatorAction.class, MethodHandle.class, "validationHandle");
+
+    /**
+     * Wraps an exception thrown by a validation method so that it can be told apart from an exception thrown while adapting the arguments.
+     */
+    private static final MethodHandle WRAP_TARGET_EXCEPTION;
+
+    static {
+        try {
+            WRAP_TARGET_EXCEPTION = MethodHandles.lookup().findStatic(ValidatorAction.class, "wrapTargetException",
+                    MethodType.methodType(Object.class, Throwable.class));
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Throws an {@link InvocationTargetException} for an exception thrown by a validation method, like {@link Method#invoke(Object, Object...)} does.
+     *
+     * @param targetException The exception thrown by the validation method.
+     * @return Never returns.
+     * @throws InvocationTargetException always.
+     */
+    private static Object wrapTargetException(final Throwable targetException) throws InvocationTargetException {
+        throw new InvocationTargetException(targetException);
+    }
+
     /**
      * Logger.
      */
@@ -61,20 +101,16 @@ public class ValidatorAction implements Serializable {
      */
     private String className;
 
-    /**
-     * The Class object loaded from the class name.
-     */
-    private Class<?> validationClass;
-
     /**
      * The full method name of the validation to be performed. The method must be thread safe.
      */
     private String method;
 
     /**
-     * The Method object loaded from the method name.
+     * The validation method bound to its instance, if it is not static, and adapted to {@link #INVOKER_TYPE}, so that each call is a direct invocation
+     * without the access and modifier checks of reflection. Loaded on first use, and again after deserialization.
      */
-    private transient Method validationMethod;
+    private transient volatile MethodHandle validationHandle;
 
     /**
      * The method signature of the validation method. This should be a comma-delimited list of the full class names of each parameter in the correct order that
@@ -86,11 +122,6 @@ public class ValidatorAction implements Serializable {
      */
     private String methodParams = Validator.BEAN_PARAM + "," + Validator.VALIDATOR_ACTION_PARAM + "," + Validator.FIELD_PARAM;
 
-    /**
-     * The Class objects for each entry in methodParameterList.
-     */
-    private Class<?>[] parameterClasses;
-
     /**
      * The other {@code ValidatorAction}s that this one depends on. If any errors occur in an action that this one depends on, this action will not be
      * processed.
@@ -110,28 +141,39 @@ public class ValidatorAction implements Serializable {
     /**
      * An optional field to contain the class path to be used to retrieve the JavaScript function.
      */
-    private String jsFunction;
+    private volatile String jsFunction;
 
     /**
      * An optional field to containing a JavaScript representation of the Java method associated with this action.
      */
-    private String javascript;
+    private volatile String javascript;
 
     /**
-     * If the Java method matching the correct signature isn't static, the instance is stored in the action. This assumes the method is thread safe.
+     * An internal List representation of the other {@code ValidatorAction}s this one depends on (if any). This List is immutable and replaced whenever
+     * setDepends() gets called, so it can be read without a lock while it is being replaced.
      */
-    private Object instance;
+    private volatile List<String> dependencyList = Collections.emptyList();
 
     /**
-     * An internal List representation of the other {@code ValidatorAction}s this one depends on (if any). This List gets updated whenever setDepends()
-     * gets called. This is synchronized so a call to setDepends() (which clears the List) won't interfere with a call to isDependency().
+     * An internal List representation of all the validation method's parameters defined in the methodParams String.
      */
-    private final List<String> dependencyList = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> methodParameterList = new ArrayList<>();
 
     /**
-     * An internal List representation of all the validation method's parameters defined in the methodParams String.
+     * The binding plan of the validation method's parameters: the {@link ParameterValues} slot of each entry in methodParameterList. Compiled again after
+     * deserialization.
      */
-    private final List<String> methodParameterList = new ArrayList<>();
+    private transient int[] parameterSlots = {};
+
+    /**
+     * The position of the bean in methodParameterList or -1.
+     */
+    private transient int beanIndex = -1;
+
+    /**
+     * The position of the field in methodParameterList or -1.
+     */
+    private transient int fieldIndex = -1;
 
     /**
      * Constructs a new instance.
@@ -144,34 +186,27 @@ public class ValidatorAction implements Serializable {
      * Dynamically runs the validation method for this validator and returns true if the data is valid.
      *
      * @param field
-     * @param params  A Map of class names to parameter values.
+     * @param params    The parameter values of the validation.
      * @param results
-     * @param pos     The index of the list property to validate if it's indexed.
+     * @param item      The item of the list property to validate if the field is indexed, or {@code null}.
+     * @param itemField The view of the field for the item if the field is indexed, or {@code null}.
      * @throws ValidatorException
      */
-    boolean executeValidationMethod(final Field field,
-            // TODO What is this the correct value type?
-            // both ValidatorAction and Validator are added as parameters
-            final Map<String, Object> params, final ValidatorResults results, final int pos) throws ValidatorException {
-        params.put(Validator.VALIDATOR_ACTION_PARAM, this);
+    boolean executeValidationMethod(final Field field, final ParameterValues params, final ValidatorResults results, final Object item,
+            final Field itemField) throws ValidatorException {
+        params.set(ParameterValues.VALIDATOR_ACTION, this);
         try {
-            if (validationMethod == null) {
-                synchronized (this) {
-                    final ClassLoader loader = getClassLoader(params);
-                    loadValidationClass(loader);
-                    loadParameterClasses(loader);
-                    loadValidationMethod();
-                }
+            MethodHandle handle = validationHandle;
+            if (handle == null) {
+                handle = bindValidationMethod(params.getValidator().getClassLoader());
             }
             final Object[] paramValues = getParameterValues(params);
-            if (field.isIndexed()) {
-                handleIndexedField(field, pos, paramValues);
+            if (itemField != null) {
+                handleIndexedField(item, itemField, paramValues);
             }
             Object result = null;
             try {
-                result = validationMethod.invoke(getValidationClassInstance(), paramValues);
-            } catch (IllegalArgumentException | IllegalAccessException e) {
-                throw new ValidatorException(e);
+                result = (Object) handle.invokeExact(paramValues);
             } catch (final InvocationTargetException e) {
                 if (e.getTargetException() instanceof Exception) {
                     throw (Exception) e.getTargetException();
@@ -179,9 +214,16 @@ public class ValidatorAction implements Serializable {
                 if (e.getTargetException() instanceof Error) {
                     throw (Error) e.getTargetException();
                 }
+            } catch (final RuntimeException e) {
+                // the arguments did not match the parameter types of the method
+                throw new ValidatorException(e);
+            } catch (final Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new ValidatorException(e);
             }
             final boolean valid = isValid(result);
-            if (!valid || valid && !onlyReturnErrors(params)) {
+            if (!valid || valid && !params.getValidator().getOnlyReturnErrors()) {
                 results.add(field, name, valid, result);
             }
             if (!valid) {
@@ -200,6 +242,42 @@ public class ValidatorAction implements Serializable {
         return true;
     }
 
+    /**
+     * Loads the validation method and binds it to a {@link MethodHandle} once, so that the per-field cost of a validation is a direct call.
+     * <p>
+     * The method is bound to an instance of the validation class if it is not static, wrapped so that an exception it throws reaches the caller as an
+     * {@link InvocationTargetException}, and adapted to take its parameter values as an array.
+     * </p>
+     * <p>
+     * No lock is held, so that a thread, or a virtual thread, that blocks in a validation method never blocks the others. Threads that run the action for
+     * the first time at once may each load the method, and all of them use the first handle published, with its instance.
+     * </p>
+     *
+     * @param loader The ClassLoader to load the validation and parameter classes with.
+     * @return The bound method.
+     * @throws ValidatorException if a class or the method cannot be loaded or accessed, or the validation class cannot be instantiated.
+     */
+    private MethodHandle bindValidationMethod(final ClassLoader loader) throws ValidatorException {
+        final Class<?> validationClass = loadValidationClass(loader);
+        final Method validationMethod = loadValidationMethod(validationClass, loadParameterClasses(loader));
+        MethodHandle target;
+        try {
+            target = MethodHandles.lookup().unreflect(validationMethod);
+        } catch (final IllegalAccessException e) {
+            throw new ValidatorException(e);
+        }
+        if (!Modifier.isStatic(validationMethod.getModifiers())) {
+            target = target.bindTo(newValidationClassInstance(validationClass));
+        }
+        final MethodType targetType = target.type();
+        final MethodHandle handler = MethodHandles.dropArguments(WRAP_TARGET_EXCEPTION.asType(MethodType.methodType(targetType.returnType(), Throwable.class)),
+                1, targetType.parameterList());
+        final MethodHandle handle = MethodHandles.catchException(target, Throwable.class, handler)
+                .asSpreader(Object[].class, targetType.parameterCount())
+                .asType(INVOKER_TYPE);
+        return VALIDATION_HANDLE.compareAndSet(this, null, handle) ? handle : validationHandle;
+    }
+
     /**
      * @return A file name suitable for passing to a {@link ClassLoader#getResourceAsStream(String)} method.
      */
@@ -226,14 +304,6 @@ public class ValidatorAction implements Serializable {
         return jsName.toString();
     }
 
-    /**
-     * Returns the ClassLoader set in the Validator contained in the parameter Map.
-     */
-    private ClassLoader getClassLoader(final Map<String, Object> params) {
-        final Validator v = getValidator(params);
-        return v.getClassLoader();
-    }
-
     /**
      * Gets the class of the validator action.
      *
@@ -249,7 +319,7 @@ public class ValidatorAction implements Serializable {
      * @return List of the validator action's dependents.
      */
     public List<String> getDependencyList() {
-        return Collections.unmodifiableList(dependencyList);
+        return dependencyList;
     }
 
     /**
@@ -266,7 +336,7 @@ public class ValidatorAction implements Serializable {
      *
      * @return The JavaScript validation.
      */
-    public synchronized String getJavascript() {
+    public String getJavascript() {
         return javascript;
     }
 
@@ -330,67 +400,53 @@ public class ValidatorAction implements Serializable {
     }
 
     /**
-     * Converts a List of parameter class names into their values contained in the parameters Map.
-     *
-     * @param params A Map of class names to parameter values.
-     * @return An array containing the value object for each parameter. This array is in the same order as the given List and is suitable for passing to the
-     *         validation method.
+     * Compiles methodParameterList into the binding plan used to pass the parameter values.
      */
-    private Object[] getParameterValues(final Map<String, ? super Object> params) {
-
-        final Object[] paramValue = new Object[methodParameterList.size()];
-
-        for (int i = 0; i < methodParameterList.size(); i++) {
-            final String paramClassName = methodParameterList.get(i);
-            paramValue[i] = params.get(paramClassName);
+    private void compileParameters() {
+        final int[] slots = new int[methodParameterList.size()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = ParameterValues.slotOf(methodParameterList.get(i));
         }
-
-        return paramValue;
-    }
-
-    /**
-     * Gets an instance of the validation class or null if the validation method is static so does not require an instance to be executed.
-     */
-    private Object getValidationClassInstance() throws ValidatorException {
-        if (Modifier.isStatic(validationMethod.getModifiers())) {
-            instance = null;
-        } else if (instance == null) {
-            try {
-                instance = validationClass.getConstructor().newInstance();
-            } catch (final ReflectiveOperationException e) {
-                throw new ValidatorException("Couldn't create instance of " + className + ":  " + e.getMessage(), e);
+        parameterSlots = slots;
+        beanIndex = methodParameterList.indexOf(Validator.BEAN_PARAM);
+        fieldIndex = methodParameterList.indexOf(Validator.FIELD_PARAM);
+    }
+
+    /**
+     * Fills an argument array with the value of each parameter, following the binding plan compiled by {@link #setMethodParams(String)}.
+     *
+     * @param params The parameter values of the validation.
+     * @return An array containing the value object for each parameter. This array is in the same order as methodParameterList and is suitable for passing
+     *         to the validation method.
+     */
+    private Object[] getParameterValues(final ParameterValues params) {
+        final int[] slots = parameterSlots;
+        final Object[] paramValue = params.getArguments(slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            switch (slots[i]) {
+            case ParameterValues.CUSTOM:
+                paramValue[i] = params.getParameters().get(methodParameterList.get(i));
+                break;
+            case ParameterValues.VALIDATOR_ACTION:
+                paramValue[i] = this;
+                break;
+            default:
+                paramValue[i] = params.get(slots[i]);
             }
         }
-        return instance;
-    }
-
-    private Validator getValidator(final Map<String, Object> params) {
-        return (Validator) params.get(Validator.VALIDATOR_PARAM);
+        return paramValue;
     }
 
     /**
      * Modifies the paramValue array with indexed fields.
      *
-     * @param field
-     * @param pos
+     * @param item        The current item of the list property.
+     * @param itemField   The field with the key modified to represent the current item.
      * @param paramValues
      */
-    private void handleIndexedField(final Field field, final int pos, final Object[] paramValues) throws ValidatorException {
-
-        final int beanIndex = methodParameterList.indexOf(Validator.BEAN_PARAM);
-        final int fieldIndex = methodParameterList.indexOf(Validator.FIELD_PARAM);
-
-        final Object[] indexedList = field.getIndexedProperty(paramValues[beanIndex]);
-
-        // Set current iteration object to the parameter array
-        paramValues[beanIndex] = indexedList[pos];
-
-        // Set field clone with the key modified to represent
-        // the current field
-        final Field indexedField = (Field) field.clone();
-        indexedField.setKey(ValidatorUtils.replace(indexedField.getKey(), Field.TOKEN_INDEXED, "[" + pos + "]"));
-
-        paramValues[fieldIndex] = indexedField;
+    private void handleIndexedField(final Object item, final Field itemField, final Object[] paramValues) {
+        paramValues[beanIndex] = item;
+        paramValues[fieldIndex] = itemField;
     }
 
     /**
@@ -435,8 +491,11 @@ public class ValidatorAction implements Serializable {
      *
      * TODO if the path begins with a '/' the path will be interpreted as absolute, and remain unchanged. If this fails then it will attempt to treat the path as
      * a file path. It is assumed the script ends with a '.js'.
+     * <p>
+     * No lock is held while the script is read: if several threads load it at once, each reads it and the same text is published.
+     * </p>
      */
-    protected synchronized void loadJavascriptFunction() {
+    protected void loadJavascriptFunction() {
 
         if (javaScriptAlreadyLoaded()) {
             return;
@@ -465,16 +524,13 @@ public class ValidatorAction implements Serializable {
     }
 
     /**
-     * Converts a List of parameter class names into their Class objects. Stores the output in {@link #parameterClasses}. This array is in the same order as the
-     * given List and is suitable for passing to the validation method.
+     * Converts a List of parameter class names into their Class objects. This array is in the same order as the given List and is suitable for finding
+     * the validation method.
      *
+     * @return The parameter classes.
      * @throws ValidatorException if a class cannot be loaded.
      */
-    private void loadParameterClasses(final ClassLoader loader) throws ValidatorException {
-
-        if (parameterClasses != null) {
-            return;
-        }
+    private Class<?>[] loadParameterClasses(final ClassLoader loader) throws ValidatorException {
 
         final Class<?>[] parameterClasses = new Class[methodParameterList.size()];
 
@@ -489,23 +545,19 @@ public class ValidatorAction implements Serializable {
             }
         }
 
-        this.parameterClasses = parameterClasses;
+        return parameterClasses;
     }
 
     /**
      * Load the Class object for the configured validation class name.
      *
      * @param loader The ClassLoader used to load the Class object.
+     * @return The validation class.
      * @throws ValidatorException
      */
-    private void loadValidationClass(final ClassLoader loader) throws ValidatorException {
-
-        if (validationClass != null) {
-            return;
-        }
-
+    private Class<?> loadValidationClass(final ClassLoader loader) throws ValidatorException {
         try {
-            validationClass = loader.loadClass(className);
+            return loader.loadClass(className);
         } catch (final ClassNotFoundException e) {
             throw new ValidatorException(e);
         }
@@ -514,25 +566,32 @@ public class ValidatorAction implements Serializable {
     /**
      * Load the Method object for the configured validation method name.
      *
+     * @param validationClass  The validation class.
+     * @param parameterClasses The parameter classes of the method.
+     * @return The validation method.
      * @throws ValidatorException
      */
-    private void loadValidationMethod() throws ValidatorException {
-        if (validationMethod != null) {
-            return;
-        }
+    private Method loadValidationMethod(final Class<?> validationClass, final Class<?>[] parameterClasses) throws ValidatorException {
         try {
-            validationMethod = validationClass.getMethod(method, parameterClasses);
+            return validationClass.getMethod(method, parameterClasses);
         } catch (final NoSuchMethodException e) {
             throw new ValidatorException("No such validation method: " + e.getMessage(), e);
         }
     }
 
     /**
-     * Returns the onlyReturnErrors setting in the Validator contained in the parameter Map.
+     * Creates an instance of the validation class, for a validation method that is not static. This assumes the method is thread safe.
+     *
+     * @param validationClass The validation class.
+     * @return The instance.
+     * @throws ValidatorException if the class cannot be instantiated.
      */
-    private boolean onlyReturnErrors(final Map<String, Object> params) {
-        final Validator v = getValidator(params);
-        return v.getOnlyReturnErrors();
+    private Object newValidationClassInstance(final Class<?> validationClass) throws ValidatorException {
+        try {
+            return validationClass.getConstructor().newInstance();
+        } catch (final ReflectiveOperationException e) {
+            throw new ValidatorException("Couldn't create instance of " + className + ":  " + e.getMessage(), e);
+        }
     }
 
     /**
@@ -587,6 +646,18 @@ public class ValidatorAction implements Serializable {
         return function.isEmpty() ? null : function;
     }
 
+    /**
+     * Compiles the binding plan of the validation method's parameters again, it is not serialized.
+     *
+     * @param in The stream to read from.
+     * @throws IOException if an I/O error occurs.
+     * @throws ClassNotFoundException if the class of a serialized object cannot be found.
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        compileParameters();
+    }
+
     /**
      * Sets the class of the validator action.
      *
@@ -615,16 +686,16 @@ public class ValidatorAction implements Serializable {
     public void setDepends(final String depends) {
         this.depends = depends;
 
-        dependencyList.clear();
-
+        final List<String> dependencies = new ArrayList<>();
         final StringTokenizer st = new StringTokenizer(depends, ",");
         while (st.hasMoreTokens()) {
             final String depend = st.nextToken().trim();
 
             if (depend != null && !depend.isEmpty()) {
-                dependencyList.add(depend);
+                dependencies.add(depend);
             }
         }
+        dependencyList = Collections.unmodifiableList(dependencies);
     }
 
     /**
@@ -694,7 +765,7 @@ public class ValidatorAction implements Serializable {
     }
 
     /**
-     * Sets the method parameters for the method.
+     * Sets the method parameters for the method and compiles them into the binding plan used to pass their values.
      *
      * @param methodParams A comma separated list of parameters.
      */
@@ -711,6 +782,8 @@ public class ValidatorAction implements Serializable {
                 methodParameterList.add(value);
             }
         }
+
+        compileParameters();
     }
 
     /**
@@ -18,11 +18,28 @@ package org.apache.commons.validator;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.net.URL;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 
 import org.apache.commons.collections.FastHashMap; // DEPRECATED
 import org.apache.commons.digester.Digester;
@@ -50,8 +67,29 @@ import org.xml.sax.SAXException;
 //TODO mutable non-private fields
 public class ValidatorResources implements Serializable {
 
+    /**
+     * A validation.xml configuration file, parsed by a Digester.
+     */
+    @FunctionalInterface
+    private interface Source {
+
+        /**
+         * Parses the file.
+         *
+         * @param digester The Digester to parse with.
+         * @throws IOException Thrown if an I/O error occurs.
+         * @throws SAXException Thrown if the file is not valid or well-formed.
+         */
+        void parse(Digester digester) throws IOException, SAXException;
+    }
+
     private static final long serialVersionUID = -8203745881446239554L;
 
+    /**
+     * The maximum number of forms {@link #getForm(Locale, String)} remembers.
+     */
+    private static final int MAX_RESOLVED_FORMS = 4096;
+
     /** Name of the digester validator rules file */
     private static final String VALIDATOR_RULES = "digester-rules.xml";
 
@@ -60,7 +98,7 @@ public class ValidatorResources implements Serializable {
      * the versions of the configuration file DTDs that we know about.  There
      * <strong>MUST</strong> be an even number of Strings in this list!
      */
-    private static final String[] REGISTRATIONS = {
+    static final String[] REGISTRATIONS = {
         "-//Apache Software Foundation//DTD Commons Validator Rules Configuration 1.0//EN",
         "/org/apache/commons/validator/resources/validator_1_0.dtd",
         "-//Apache Software Foundation//DTD Commons Validator Rules Configuration 1.0.1//EN",
@@ -86,6 +124,51 @@ public class ValidatorResources implements Serializable {
     private static final String ARGS_PATTERN
                = "form-validation/formset/form/field/arg";
 
+    /**
+     * Gets the configuration files of InputStreams.
+     */
+    private static Source[] sources(final InputStream[] streams) {
+        final Source[] sources = new Source[streams.length];
+        for (int i = 0; i < streams.length; i++) {
+            if (streams[i] == null) {
+                throw new IllegalArgumentException("Stream[" + i + "] is null");
+            }
+            final InputStream stream = streams[i];
+            sources[i] = digester -> digester.parse(stream);
+        }
+        return sources;
+    }
+
+    /**
+     * Gets the configuration files of uris.
+     */
+    private static Source[] sources(final String[] uris) {
+        final Source[] sources = new Source[uris.length];
+        for (int i = 0; i < uris.length; i++) {
+            if (uris[i] == null) {
+                throw new IllegalArgumentException("URI[" + i + "] is null");
+            }
+            final String uri = uris[i];
+            sources[i] = digester -> digester.parse(uri);
+        }
+        return sources;
+    }
+
+    /**
+     * Gets the configuration files of URLs.
+     */
+    private static Source[] sources(final URL[] urls) {
+        final Source[] sources = new Source[urls.length];
+        for (int i = 0; i < urls.length; i++) {
+            if (urls[i] == null) {
+                throw new IllegalArgumentException("URL[" + i + "] is null");
+            }
+            final URL url = urls[i];
+            sources[i] = digester -> digester.parse(url);
+        }
+        return sources;
+    }
+
     private transient Log log = LogFactory.getLog(ValidatorResources.class);
 
     /**
@@ -121,6 +204,36 @@ public class ValidatorResources implements Serializable {
      */
     protected FormSet defaultFormSet;
 
+    /**
+     * The compiled plans of the processed forms, replaced as a whole by {@link #process()}.
+     */
+    private transient volatile Map<Form, FormPlan> formPlans = Collections.emptyMap();
+
+    /**
+     * The {@code FormSet}s frozen by {@link #process()}, which empties hFormSets, or {@code null} to read getFormSets().
+     */
+    private transient volatile Map<String, FormSet> frozenFormSets;
+
+    /**
+     * The {@code ValidatorAction}s frozen by {@link #process()}, which empties hActions, or {@code null} to read getActions().
+     */
+    private transient volatile Map<String, ValidatorAction> frozenActions;
+
+    /**
+     * Whether {@link #process()} leaves the locale {@code FormSet}s to be processed on first use.
+     */
+    private transient boolean deferFormSets;
+
+    /**
+     * The locale {@code FormSet}s that {@link #process()} deferred and that have not been used yet, replaced as a whole.
+     */
+    private transient volatile Map<String, FormSet> deferredFormSets = Collections.emptyMap();
+
+    /**
+     * The forms resolved by {@link #getForm(Locale, String)} since {@link #process()}, by locale and form key, or {@code null} if not processed.
+     */
+    private transient volatile Map<Map.Entry<Locale, String>, Form> resolvedForms;
+
     /**
      * Create an empty ValidatorResources object.
      */
@@ -233,6 +346,126 @@ public class ValidatorResources implements Serializable {
         process();
     }
 
+    /**
+     * Create a ValidatorResources object from several InputStreams, parsing
+     * them concurrently, as {@link #ValidatorResources(URL[], Executor, boolean)}
+     * does for URLs.
+     *
+     * @param streams An array of InputStreams to several validation.xml
+     * configuration files that will be merged into this object in order.
+     * It's the client's responsibility to close these streams.
+     * @param executor The executor to run the parsing tasks.
+     * @param deferFormSets Whether to process the {@code FormSet} of a locale on first use.
+     * @throws SAXException Thrown if the validation XML files are not valid or well-formed.
+     * @throws IOException Thrown if an I/O error occurs processing the XML files,
+     * or if the calling thread is interrupted while waiting for the parsing tasks.
+     * @since 1.11.1
+     */
+    public ValidatorResources(final InputStream[] streams, final Executor executor, final boolean deferFormSets)
+            throws IOException, SAXException {
+        this(sources(streams), executor, deferFormSets);
+    }
+
+    /**
+     * Create a ValidatorResources object from several uris, parsing them
+     * concurrently, as {@link #ValidatorResources(URL[], Executor, boolean)}
+     * does for URLs.
+     *
+     * @param uris An array of uris to several validation.xml
+     * configuration files that will be merged into this object in order.
+     * @param executor The executor to run the parsing tasks.
+     * @param deferFormSets Whether to process the {@code FormSet} of a locale on first use.
+     * @throws SAXException Thrown if the validation XML files are not valid or well-formed.
+     * @throws IOException Thrown if an I/O error occurs processing the XML files,
+     * or if the calling thread is interrupted while waiting for the parsing tasks.
+     * @since 1.11.1
+     */
+    public ValidatorResources(final String[] uris, final Executor executor, final boolean deferFormSets)
+            throws IOException, SAXException {
+        this(sources(uris), executor, deferFormSets);
+    }
+
+    /**
+     * Create a ValidatorResources object from several URLs, parsing them
+     * concurrently.
+     * <p>
+     * Each file is parsed by its own Digester in a task run by the given
+     * {@link Executor}. The results are then merged in the order of the
+     * URLs, as if the files had been read in order by
+     * {@link #ValidatorResources(URL[])}, and processed.
+     * Pass {@code Runnable::run} to parse on the calling thread.
+     * </p>
+     * <p>
+     * If {@code deferFormSets} is true, processing leaves the
+     * {@code FormSet}s of each locale as they were parsed: a locale's
+     * {@code FormSet} and the ones it inherits from are merged with the
+     * {@code FormSet} they inherit from, processed with their constants and
+     * compiled when {@link #getForm(Locale, String)} first finds them. Locales that are never asked for are never processed.
+     * The default {@code FormSet} is always processed.
+     * </p>
+     *
+     * @param urls An array of URL to several validation.xml
+     * configuration files that will be merged into this object in order.
+     * @param executor The executor to run the parsing tasks.
+     * @param deferFormSets Whether to process the {@code FormSet} of a locale on first use.
+     * @throws SAXException Thrown if the validation XML files are not valid or well-formed.
+     * @throws IOException Thrown if an I/O error occurs processing the XML files,
+     * or if the calling thread is interrupted while waiting for the parsing tasks.
+     * @since 1.11.1
+     */
+    public ValidatorResources(final URL[] urls, final Executor executor, final boolean deferFormSets)
+            throws IOException, SAXException {
+        this(sources(urls), executor, deferFormSets);
+    }
+
+    /**
+     * Create a ValidatorResources object from several configuration files,
+     * parsing them concurrently.
+     */
+    private ValidatorResources(final Source[] sources, final Executor executor, final boolean deferFormSets)
+            throws IOException, SAXException {
+
+        Objects.requireNonNull(executor, "executor");
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        final List<FutureTask<ValidatorResources>> tasks = new ArrayList<>(sources.length);
+        for (final Source source : sources) {
+            tasks.add(new FutureTask<>(() -> parse(source, classLoader)));
+        }
+        try {
+            for (final FutureTask<ValidatorResources> task : tasks) {
+                executor.execute(task);
+            }
+            for (final FutureTask<ValidatorResources> task : tasks) {
+                merge(task.get());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw (IOException) new InterruptedIOException("Interrupted while parsing validation files").initCause(e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof SAXException) {
+                throw (SAXException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            for (final FutureTask<ValidatorResources> task : tasks) {
+                task.cancel(true);
+            }
+        }
+
+        this.deferFormSets = deferFormSets;
+        process();
+    }
+
     /**
      * Add a global constant to the resource.
      *
@@ -245,6 +478,7 @@ public class ValidatorResources implements Serializable {
         }
 
         hConstants.put(name, value);
+        unfreeze();
     }
 
     /**
@@ -275,6 +509,7 @@ public class ValidatorResources implements Serializable {
             }
             getFormSets().put(key, fs);
         }
+        unfreeze();
     }
 
     /**
@@ -327,6 +562,7 @@ public class ValidatorResources implements Serializable {
         va.init();
 
         getActions().put(va.getName(), va);
+        unfreeze();
 
         if (getLog().isDebugEnabled()) {
             getLog().debug("Add ValidatorAction: " + va.getName() + "," + va.getClassname());
@@ -355,6 +591,64 @@ public class ValidatorResources implements Serializable {
         return key.toString();
     }
 
+    /**
+     * Reports the cycles in the dependencies of the {@code ValidatorAction}s
+     * and the dependencies and depends clauses that name missing actions, so
+     * that they are found when the resources are processed rather than when
+     * a field that depends on them is validated.
+     */
+    private void checkDependencies() {
+        final Map<String, ValidatorAction> actions = getValidatorActions();
+        final Set<String> problems = new LinkedHashSet<>();
+        final Set<String> checked = new HashSet<>();
+        for (final String name : actions.keySet()) {
+            checkDependencies(name, actions, checked, new ArrayList<>(), problems);
+        }
+        final List<FormSet> formSets = new ArrayList<>(formSets().values());
+        formSets.add(defaultFormSet);
+        for (final FormSet fs : formSets) {
+            for (final Form form : fs.getForms().values()) {
+                for (final Field field : form.getFields()) {
+                    for (final String depend : field.getDependencyList()) {
+                        if (!actions.containsKey(depend)) {
+                            problems.add("Field '" + field.getKey() + "' of form '" + form.getName() + "' depends on missing ValidatorAction '" + depend
+                                    + "'");
+                        }
+                    }
+                }
+            }
+        }
+        if (getLog().isErrorEnabled()) {
+            problems.forEach(getLog()::error);
+        }
+    }
+
+    /**
+     * Checks the dependencies of an action not checked yet, and of the
+     * actions it depends on, depth first.
+     */
+    private void checkDependencies(final String name, final Map<String, ValidatorAction> actions, final Set<String> checked, final List<String> path,
+            final Set<String> problems) {
+        final int start = path.indexOf(name);
+        if (start >= 0) {
+            problems.add("The dependencies of ValidatorAction '" + name + "' form a cycle: " + String.join(" -> ", path.subList(start, path.size()))
+                    + " -> " + name);
+            return;
+        }
+        if (!checked.add(name)) {
+            return;
+        }
+        path.add(name);
+        for (final String depend : actions.get(name).getDependencyList()) {
+            if (actions.containsKey(depend)) {
+                checkDependencies(depend, actions, checked, path, problems);
+            } else {
+                problems.add("ValidatorAction '" + name + "' depends on missing ValidatorAction '" + depend + "'");
+            }
+        }
+        path.remove(path.size() - 1);
+    }
+
     /**
      * Returns a Map of String ValidatorAction names to their ValidatorAction.
      *
@@ -363,6 +657,9 @@ public class ValidatorResources implements Serializable {
      */
     @SuppressWarnings("unchecked") // FastHashMap is not generic
     protected Map<String, ValidatorAction> getActions() {
+        if (frozenActions != null) {
+            thawActions();
+        }
         return hActions;
     }
 
@@ -377,6 +674,46 @@ public class ValidatorResources implements Serializable {
         return hConstants;
     }
 
+    /**
+     * Freezes the {@code FormSet}s and {@code ValidatorAction}s into the
+     * immutable copies read once processed, emptying hFormSets and
+     * hActions, and compiles the form plans.
+     */
+    private void freeze() {
+        final Map<String, FormSet> formSets = getFormSets();
+        frozenFormSets = formSets == hFormSets ? FrozenMaps.freeze(formSets) : FrozenMaps.copyOf(formSets);
+        resolvedForms = new ConcurrentHashMap<>();
+        final Map<String, ValidatorAction> actions = getActions();
+        frozenActions = actions == hActions ? FrozenMaps.freeze(actions) : FrozenMaps.copyOf(actions);
+        final Map<String, FormSet> deferred = new HashMap<>();
+        for (final Map.Entry<String, FormSet> entry : frozenFormSets.entrySet()) {
+            if (!entry.getValue().isProcessed()) {
+                deferred.put(entry.getKey(), entry.getValue());
+            }
+        }
+        compileForms();
+        deferredFormSets = FrozenMaps.copyOf(deferred);
+    }
+
+    /**
+     * Gets the {@code FormSet} of a locale key, processing it first if its processing was deferred.
+     */
+    private FormSet formSet(final String key) {
+        final FormSet formSet = formSets().get(key);
+        if (formSet != null && deferredFormSets.containsKey(key)) {
+            processDeferred(key);
+        }
+        return formSet;
+    }
+
+    /**
+     * Gets the {@code FormSet}s to read: the frozen copy once processed, otherwise getFormSets().
+     */
+    Map<String, FormSet> formSets() {
+        final Map<String, FormSet> frozen = frozenFormSets;
+        return frozen != null ? frozen : getFormSets();
+    }
+
     /**
      * Gets a {@code Form} based on the name of the form and the
      * {@link Locale} that most closely matches the {@link Locale}
@@ -387,6 +724,10 @@ public class ValidatorResources implements Serializable {
      *    <li>language</li>
      *    <li>default locale</li>
      * </ol>
+     * <p>
+     * Once the resources are processed, the form found for a locale and
+     * form key is remembered, so later calls are a single lookup.
+     * </p>
      *
      * @param locale The Locale.
      * @param formKey The key for the Form.
@@ -394,8 +735,22 @@ public class ValidatorResources implements Serializable {
      * @since 1.1
      */
     public Form getForm(final Locale locale, final String formKey) {
-        return this.getForm(locale.getLanguage(), locale.getCountry(), locale
-                .getVariant(), formKey);
+        final Map<Map.Entry<Locale, String>, Form> resolved = resolvedForms;
+        if (resolved == null) {
+            return this.getForm(locale.getLanguage(), locale.getCountry(), locale
+                    .getVariant(), formKey);
+        }
+        final Map.Entry<Locale, String> key = new SimpleImmutableEntry<>(locale, formKey);
+        Form form = resolved.get(key);
+        if (form == null) {
+            form = this.getForm(locale.getLanguage(), locale.getCountry(), locale
+                    .getVariant(), formKey);
+            // the locales come from the requests, so do not let them grow the map without bound
+            if (form != null && resolved.size() < MAX_RESOLVED_FORMS) {
+                resolved.put(key, form);
+            }
+        }
+        return form;
     }
 
     /**
@@ -423,7 +778,7 @@ public class ValidatorResources implements Serializable {
         // Try language/country/variant
         String key = buildLocale(language, country, variant);
         if (!key.isEmpty()) {
-            final FormSet formSet = getFormSets().get(key);
+            final FormSet formSet = formSet(key);
             if (formSet != null) {
                 form = formSet.getForm(formKey);
             }
@@ -434,7 +789,7 @@ public class ValidatorResources implements Serializable {
         if (form == null) {
             key = buildLocale(language, country, null);
             if (!key.isEmpty()) {
-                final FormSet formSet = getFormSets().get(key);
+                final FormSet formSet = formSet(key);
                 if (formSet != null) {
                     form = formSet.getForm(formKey);
                 }
@@ -445,7 +800,7 @@ public class ValidatorResources implements Serializable {
         if (form == null) {
             key = buildLocale(language, null, null);
             if (!key.isEmpty()) {
-                final FormSet formSet = getFormSets().get(key);
+                final FormSet formSet = formSet(key);
                 if (formSet != null) {
                     form = formSet.getForm(formKey);
                 }
@@ -470,6 +825,17 @@ public class ValidatorResources implements Serializable {
 
     }
 
+    /**
+     * Gets the compiled plan of a processed form.
+     *
+     * @param form The form.
+     * @return The plan or {@code null} if the form was not compiled by {@link #process()}.
+     */
+    FormPlan getFormPlan(final Form form) {
+        final Map<Form, FormPlan> plans = formPlans;
+        return plans == null ? null : plans.get(form);
+    }
+
     /**
      * Gets a {@code FormSet} based on the language, country
      *    and variant.
@@ -485,7 +851,7 @@ public class ValidatorResources implements Serializable {
         if (key.isEmpty()) {
             return defaultFormSet;
         }
-        return getFormSets().get(key);
+        return formSet(key);
     }
 
     /**
@@ -496,6 +862,9 @@ public class ValidatorResources implements Serializable {
      */
     @SuppressWarnings("unchecked") // FastHashMap is not generic
     protected Map<String, FormSet> getFormSets() {
+        if (frozenFormSets != null) {
+            thawFormSets();
+        }
         return hFormSets;
     }
 
@@ -532,14 +901,14 @@ public class ValidatorResources implements Serializable {
         if (fs.getType() == FormSet.LANGUAGE_FORMSET) {
             parent = defaultFormSet;
         } else if (fs.getType() == FormSet.COUNTRY_FORMSET) {
-            parent = getFormSets().get(buildLocale(fs.getLanguage(), null, null));
+            parent = formSets().get(buildLocale(fs.getLanguage(), null, null));
             if (parent == null) {
                 parent = defaultFormSet;
             }
         } else if (fs.getType() == FormSet.VARIANT_FORMSET) {
-            parent = getFormSets().get(buildLocale(fs.getLanguage(), fs.getCountry(), null));
+            parent = formSets().get(buildLocale(fs.getLanguage(), fs.getCountry(), null));
             if (parent == null) {
-                parent = getFormSets().get(buildLocale(fs.getLanguage(), null, null));
+                parent = formSets().get(buildLocale(fs.getLanguage(), null, null));
                 if (parent == null) {
                     parent = defaultFormSet;
                 }
@@ -555,7 +924,8 @@ public class ValidatorResources implements Serializable {
      * @return The validator action.
      */
     public ValidatorAction getValidatorAction(final String key) {
-        return getActions().get(key);
+        final Map<String, ValidatorAction> frozen = frozenActions;
+        return (frozen != null ? frozen : getActions()).get(key);
     }
 
     /**
@@ -564,7 +934,8 @@ public class ValidatorResources implements Serializable {
      * @return Map of validator actions.
      */
     public Map<String, ValidatorAction> getValidatorActions() {
-        return Collections.unmodifiableMap(getActions());
+        final Map<String, ValidatorAction> frozen = frozenActions;
+        return frozen != null ? frozen : Collections.unmodifiableMap(getActions());
     }
 
     /**
@@ -598,19 +969,145 @@ public class ValidatorResources implements Serializable {
     }
 
     /**
-     * Process the {@code ValidatorResources} object. Currently, sets the
-     * {@code FastHashMap} s to the 'fast' mode and call the processes
-     * all other resources. <strong>Note </strong>: The framework calls this
+     * Merges the resources parsed from a later file into these resources,
+     * as if that file had been parsed into them.
+     */
+    private void merge(final ValidatorResources parsed) {
+        getConstants().putAll(parsed.getConstants());
+        getActions().putAll(parsed.getActions());
+        if (parsed.defaultFormSet != null) {
+            merge(parsed.defaultFormSet);
+        }
+        parsed.getFormSets().values().forEach(this::merge);
+        unfreeze();
+    }
+
+    /**
+     * Merges a {@code FormSet} parsed from a later file into the
+     * {@code FormSet} of the same locale, or adds it.
+     */
+    private void merge(final FormSet parsed) {
+        final FormSet formSet = getFormSet(parsed.getLanguage(), parsed.getCountry(), parsed.getVariant());
+        if (formSet == null) {
+            addFormSet(parsed);
+        } else {
+            formSet.addAll(parsed);
+        }
+    }
+
+    /**
+     * Parses a file into new resources with its own Digester, so that
+     * files can be parsed concurrently. The file is parsed with the
+     * context class loader of the calling thread, which also loads the
+     * JavaScript of the actions it declares.
+     */
+    private ValidatorResources parse(final Source source, final ClassLoader classLoader) throws IOException, SAXException {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            final ValidatorResources parsed = new ValidatorResources();
+            final Digester digester = initDigester();
+            if (classLoader != null) {
+                digester.setClassLoader(classLoader);
+            }
+            digester.push(parsed);
+            source.parse(digester);
+            return parsed;
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    /**
+     * Process the {@code ValidatorResources} object. Currently, processes
+     * all other resources and freezes them into immutable maps that the
+     * validation reads from. <strong>Note </strong>: The framework calls this
      * automatically when ValidatorResources is created from an XML file. If you
      * create an instance of this class by hand you <strong>must </strong> call
      * this method when finished.
+     * <p>
+     * Processing also compiles the execution plan of each form, which the
+     * {@link Validator} runs instead of resolving the dependencies of each
+     * field as it validates. Adding a constant, {@code FormSet} or
+     * {@code ValidatorAction} discards the frozen maps and the plans until
+     * the next call. The cycles in the dependencies of the actions, and the
+     * dependencies and depends clauses that name missing actions, are
+     * logged as errors.
+     * </p>
      */
     public void process() {
-        hFormSets.setFast(true);
-        hConstants.setFast(true);
-        hActions.setFast(true);
-
+        unfreeze();
         processForms();
+        freeze();
+        checkDependencies();
+    }
+
+    /**
+     * Compiles the execution plan of each form of each processed {@code FormSet}.
+     */
+    private void compileForms() {
+        final Map<Form, FormPlan> plans = new IdentityHashMap<>();
+        compileForms(defaultFormSet, plans);
+        for (final FormSet fs : formSets().values()) {
+            if (fs.isProcessed()) {
+                compileForms(fs, plans);
+            }
+        }
+        formPlans = Collections.unmodifiableMap(plans);
+    }
+
+    /**
+     * Compiles the execution plan of each form of a processed {@code FormSet} not compiled yet.
+     */
+    private void compileForms(final FormSet fs, final Map<Form, FormPlan> plans) {
+        final Map<String, ValidatorAction> actions = getValidatorActions();
+        for (final Form form : fs.getForms().values()) {
+            plans.computeIfAbsent(form, f -> new FormPlan(f, actions));
+        }
+    }
+
+    /**
+     * Processes a deferred {@code FormSet} and the deferred
+     * {@code FormSet}s it inherits from, and compiles their forms.
+     */
+    private synchronized void processDeferred(final String key) {
+        final Map<String, FormSet> deferred = new HashMap<>(deferredFormSets);
+        final FormSet fs = deferred.get(key);
+        if (fs == null) { // processed by another thread
+            return;
+        }
+        final Map<Form, FormPlan> plans = new IdentityHashMap<>(formPlans);
+        processDeferred(fs, deferred, plans);
+        formPlans = Collections.unmodifiableMap(plans);
+        deferredFormSets = FrozenMaps.copyOf(deferred);
+    }
+
+    /**
+     * Merges a deferred {@code FormSet} with its parent and processes it,
+     * after its parents.
+     */
+    private void processDeferred(final FormSet fs, final Map<String, FormSet> deferred, final Map<Form, FormPlan> plans) {
+        if (deferred.remove(buildKey(fs)) == null) {
+            return;
+        }
+        final FormSet parent = getParent(fs);
+        if (parent != null) {
+            processDeferred(parent, deferred, plans);
+        }
+        fs.merge(parent);
+        fs.process(getConstants());
+        compileForms(fs, plans);
+    }
+
+    /**
+     * Processes the {@code FormSet}s whose processing was deferred and not
+     * triggered yet.
+     */
+    synchronized void processDeferredFormSets() {
+        for (final String key : deferredFormSets.keySet()) {
+            processDeferred(key);
+        }
     }
 
     /**
@@ -624,6 +1121,10 @@ public class ValidatorResources implements Serializable {
             defaultFormSet = new FormSet();
         }
         defaultFormSet.process(getConstants());
+        // Merge and process the FormSets of the locales on first use if deferred
+        if (deferFormSets) {
+            return;
+        }
         // Loop through FormSets and merge if necessary
         for (final String key : getFormSets().keySet()) {
             final FormSet fs = getFormSets().get(key);
@@ -638,4 +1139,86 @@ public class ValidatorResources implements Serializable {
         }
     }
 
+    /**
+     * Restores the immutable copies and compiled plans of processed resources,
+     * from the copies written after the serializable fields.
+     *
+     * @param in The stream to read from.
+     * @throws IOException if an I/O error occurs.
+     * @throws ClassNotFoundException if the class of a serialized object cannot be found.
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        FrozenMaps.thaw(getFormSets(), FrozenMaps.<String, FormSet>read(in));
+        FrozenMaps.thaw(getActions(), FrozenMaps.<String, ValidatorAction>read(in));
+        unfreeze();
+        if (defaultFormSet != null && defaultFormSet.isProcessed()) {
+            freeze();
+        }
+    }
+
+    /**
+     * Moves the frozen {@code ValidatorAction}s back into hActions, for the resources to be changed.
+     */
+    private synchronized void thawActions() {
+        FrozenMaps.thaw(hActions, frozenActions);
+        frozenActions = null;
+    }
+
+    /**
+     * Moves the frozen {@code FormSet}s back into hFormSets, for the resources to be changed.
+     */
+    private synchronized void thawFormSets() {
+        FrozenMaps.thaw(hFormSets, frozenFormSets);
+        frozenFormSets = null;
+    }
+
+    /**
+     * Discards the frozen maps, moving their entries back, and the compiled
+     * plans, so that reads see the resources as they are being built.
+     */
+    private void unfreeze() {
+        thawFormSets();
+        thawActions();
+        formPlans = Collections.emptyMap();
+        deferredFormSets = Collections.emptyMap();
+        resolvedForms = null;
+    }
+
+    /**
+     * Writes the JavaScript functions of the {@code ValidatorAction}s that
+     * the fields of a form depend on, with the actions these depend on, each
+     * function once and minified, for a page to validate the form on the
+     * client. The {@code Form} is resolved as {@link #getForm(Locale, String)}
+     * does. Once the resources are processed, the script of each form is
+     * built once and the same bytes are written for each page.
+     *
+     * @param locale The Locale.
+     * @param formKey The key for the Form.
+     * @param out The stream to write the UTF-8 script to, which is not closed.
+     * @throws IOException if an I/O error occurs.
+     * @since 1.11.1
+     */
+    public void writeJavascript(final Locale locale, final String formKey, final OutputStream out) throws IOException {
+        final Form form = getForm(locale, formKey);
+        if (form == null) {
+            return;
+        }
+        final FormPlan plan = getFormPlan(form);
+        out.write(plan != null ? plan.getJavascript() : FormPlan.buildJavascript(form, getValidatorActions()));
+    }
+
+    /**
+     * Writes the frozen {@code FormSet}s and {@code ValidatorAction}s after
+     * hFormSets and hActions, which processed resources have emptied.
+     *
+     * @param out The stream to write to.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(frozenFormSets);
+        out.writeObject(frozenActions);
+    }
+
 }
@@ -0,0 +1,664 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Locale;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.XMLReader;
+
+/**
+ * Loads {@link ValidatorResources} from validation.xml files with a StAX parser.
+ * <p>
+ * The constructors of {@code ValidatorResources} parse with a validating Digester, which interprets {@code digester-rules.xml} and sets each attribute
+ * through BeanUtils. This loader reads the elements of the {@code validator_1_4_0.dtd} and earlier DTDs, including the {@code arg0} to {@code arg3}
+ * elements, straight into {@code FormSet}, {@code Form}, {@code Field}, {@code Arg}, {@code Msg}, {@code Var} and {@code ValidatorAction} with their
+ * setters, and merges several files the same way. Unknown elements and attributes are ignored.
+ * </p>
+ * <p>
+ * The DTDs are resolved from this library. A non-validating loader only reads them for their entities. A validating loader first checks each file against
+ * its DTD, which parses the file twice, and reports the first problem as a {@link SAXParseException}: use it in tests and load without validation in
+ * production.
+ * </p>
+ * <p>
+ * Any other external entity or DTD is refused with a {@link SAXException}, so that a file cannot read local files or URLs through its entities. A file
+ * that imports parts of its rules with external entities, such as {@code <!ENTITY forms SYSTEM "forms.xml">}, must be loaded by a loader constructed to
+ * resolve them: only do so for trusted files.
+ * </p>
+ * <pre>
+ * ValidatorResources resources = new ValidatorResourcesLoader().load(getClass().getResource("/validation.xml"));
+ * </pre>
+ *
+ * @since 1.11.1
+ */
+public final class ValidatorResourcesLoader {
+
+    /**
+     * Reports validation errors as exceptions and ignores warnings.
+     */
+    private static final ErrorHandler STRICT = new ErrorHandler() {
+
+        @Override
+        public void error(final SAXParseException exception) throws SAXException {
+            throw exception;
+        }
+
+        @Override
+        public void fatalError(final SAXParseException exception) throws SAXException {
+            throw exception;
+        }
+
+        @Override
+        public void warning(final SAXParseException exception) {
+            // ignore
+        }
+    };
+
+    /**
+     * Gets the DTD of this library registered for a public identifier.
+     *
+     * @return The DTD or {@code null} if the public identifier is not registered.
+     */
+    private static URL getDtd(final String publicId) {
+        for (int i = 0; i < ValidatorResources.REGISTRATIONS.length; i += 2) {
+            if (ValidatorResources.REGISTRATIONS[i].equals(publicId)) {
+                return ValidatorResources.class.getResource(ValidatorResources.REGISTRATIONS[i + 1]);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the message of a refused external entity.
+     */
+    private static String refused(final String systemId) {
+        return "External entity " + systemId + " is not resolved, construct the loader to resolve external entities to import it";
+    }
+
+    private final boolean validating;
+
+    private final boolean externalEntities;
+
+    /**
+     * Constructs a non-validating loader.
+     */
+    public ValidatorResourcesLoader() {
+        this(false);
+    }
+
+    /**
+     * Constructs a loader that refuses external entities.
+     *
+     * @param validating Whether to validate each file against its DTD.
+     */
+    public ValidatorResourcesLoader(final boolean validating) {
+        this(validating, false);
+    }
+
+    /**
+     * Constructs a loader.
+     *
+     * @param validating       Whether to validate each file against its DTD.
+     * @param externalEntities Whether to resolve external entities other than the DTDs of this library, relative to the file that declares them.
+     */
+    public ValidatorResourcesLoader(final boolean validating, final boolean externalEntities) {
+        this.validating = validating;
+        this.externalEntities = externalEntities;
+    }
+
+    /**
+     * Gets the value of an attribute as a {@code boolean}, accepting the values BeanUtils accepts for the Digester.
+     */
+    private boolean booleanValue(final XMLStreamReader reader, final int index) throws SAXException {
+        final String value = reader.getAttributeValue(index).trim().toLowerCase(Locale.ROOT);
+        switch (value) {
+        case "true":
+        case "yes":
+        case "y":
+        case "on":
+        case "1":
+            return true;
+        case "false":
+        case "no":
+        case "n":
+        case "off":
+        case "0":
+            return false;
+        default:
+            throw error(reader, "Invalid boolean '" + value + "' for attribute " + reader.getAttributeLocalName(index));
+        }
+    }
+
+    private XMLInputFactory createInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.TRUE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.TRUE);
+        factory.setXMLResolver((publicId, systemId, baseUri, namespace) -> {
+            final URL dtd = getDtd(publicId);
+            if (dtd == null) {
+                if (externalEntities) {
+                    return null;
+                }
+                throw new XMLStreamException(refused(systemId));
+            }
+            try {
+                return dtd.openStream();
+            } catch (final IOException e) {
+                throw new XMLStreamException(e);
+            }
+        });
+        return factory;
+    }
+
+    private SAXParseException error(final XMLStreamReader reader, final String message) {
+        final Location location = reader.getLocation();
+        return new SAXParseException(message, location.getPublicId(), location.getSystemId(), location.getLineNumber(), location.getColumnNumber());
+    }
+
+    /**
+     * Gets the value of an attribute as an {@code int}.
+     */
+    private int intValue(final XMLStreamReader reader, final int index) throws SAXException {
+        final String value = reader.getAttributeValue(index).trim();
+        try {
+            return Integer.parseInt(value);
+        } catch (final NumberFormatException e) {
+            throw error(reader, "Invalid number '" + value + "' for attribute " + reader.getAttributeLocalName(index));
+        }
+    }
+
+    /**
+     * Tests whether this loader resolves external entities other than the DTDs of this library.
+     *
+     * @return Whether this loader resolves external entities.
+     */
+    public boolean isExternalEntities() {
+        return externalEntities;
+    }
+
+    /**
+     * Tests whether this loader validates each file against its DTD.
+     *
+     * @return Whether this loader validates.
+     */
+    public boolean isValidating() {
+        return validating;
+    }
+
+    /**
+     * Loads and processes resources from several validation.xml files.
+     *
+     * @param urls The validation.xml configuration files, which are read in order and merged.
+     * @return The processed resources.
+     * @throws SAXException Thrown if a file is not well-formed, or not valid when this loader validates.
+     * @throws IOException  Thrown if a file cannot be read.
+     */
+    public ValidatorResources load(final URL... urls) throws IOException, SAXException {
+        final ValidatorResources resources = new ValidatorResources();
+        final XMLInputFactory factory = createInputFactory();
+        for (int i = 0; i < urls.length; i++) {
+            if (urls[i] == null) {
+                throw new IllegalArgumentException("URL[" + i + "] is null");
+            }
+            read(factory, resources, urls[i]);
+        }
+        resources.process();
+        return resources;
+    }
+
+    /**
+     * Moves to the next child element of the current element, or to the root element at the start of the document.
+     *
+     * @return true at the start of a child element, false at the end of the current element or of the document.
+     */
+    private boolean nextChild(final XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+            case XMLStreamConstants.START_ELEMENT:
+                return true;
+            case XMLStreamConstants.END_ELEMENT:
+                return false;
+            default:
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the rules of a validation.xml file into resources, without processing them, as the constructors of {@code ValidatorResources} do for each of
+     * their files.
+     *
+     * @param resources The resources to add to.
+     * @param url       The validation.xml configuration file.
+     * @throws SAXException Thrown if the file is not well-formed, or not valid when this loader validates.
+     * @throws IOException  Thrown if the file cannot be read.
+     */
+    public void read(final ValidatorResources resources, final URL url) throws IOException, SAXException {
+        read(createInputFactory(), resources, url);
+    }
+
+    private void read(final XMLInputFactory factory, final ValidatorResources resources, final URL url) throws IOException, SAXException {
+        if (validating) {
+            validate(url);
+        }
+        try (InputStream in = url.openStream()) {
+            final XMLStreamReader reader = factory.createXMLStreamReader(url.toExternalForm(), in);
+            try {
+                if (nextChild(reader) && "form-validation".equals(reader.getLocalName())) {
+                    readFormValidation(reader, resources);
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (final XMLStreamException e) {
+            final Location location = e.getLocation();
+            final SAXParseException exception = location == null ? new SAXParseException(e.getMessage(), null, url.toExternalForm(), -1, -1)
+                    : new SAXParseException(e.getMessage(), location.getPublicId(), url.toExternalForm(), location.getLineNumber(),
+                            location.getColumnNumber());
+            exception.initCause(e);
+            throw exception;
+        }
+    }
+
+    private Arg readArg(final XMLStreamReader reader) throws XMLStreamException, SAXException {
+        final Arg arg = new Arg();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            switch (reader.getAttributeLocalName(i)) {
+            case "bundle":
+                arg.setBundle(reader.getAttributeValue(i));
+                break;
+            case "key":
+                arg.setKey(reader.getAttributeValue(i));
+                break;
+            case "name":
+                arg.setName(reader.getAttributeValue(i));
+                break;
+            case "position":
+                arg.setPosition(intValue(reader, i));
+                break;
+            case "resource":
+                arg.setResource(booleanValue(reader, i));
+                break;
+            default:
+                break;
+            }
+        }
+        skipElement(reader);
+        return arg;
+    }
+
+    /**
+     * Reads an {@code arg0} to {@code arg3} element of the DTDs prior to Validator 1.2.0.
+     */
+    private Arg readArg(final XMLStreamReader reader, final int position) throws XMLStreamException {
+        final Arg arg = new Arg();
+        arg.setKey(reader.getAttributeValue(null, "key"));
+        arg.setName(reader.getAttributeValue(null, "name"));
+        if ("false".equalsIgnoreCase(reader.getAttributeValue(null, "resource"))) {
+            arg.setResource(false);
+        }
+        arg.setPosition(position);
+        skipElement(reader);
+        return arg;
+    }
+
+    /**
+     * Reads a {@code constant} element into the given resources or {@code FormSet}.
+     */
+    private void readConstant(final XMLStreamReader reader, final ValidatorResources resources, final FormSet formSet) throws XMLStreamException {
+        String name = null;
+        String value = null;
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+            case "constant-name":
+                name = readText(reader);
+                break;
+            case "constant-value":
+                value = readText(reader);
+                break;
+            default:
+                skipElement(reader);
+                break;
+            }
+        }
+        if (formSet != null) {
+            formSet.addConstant(name, value);
+        } else {
+            resources.addConstant(name, value);
+        }
+    }
+
+    private Field readField(final XMLStreamReader reader) throws XMLStreamException, SAXException {
+        final Field field = new Field();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            switch (reader.getAttributeLocalName(i)) {
+            case "clientValidation":
+                field.setClientValidation(booleanValue(reader, i));
+                break;
+            case "depends":
+                field.setDepends(reader.getAttributeValue(i));
+                break;
+            case "indexedListProperty":
+                field.setIndexedListProperty(reader.getAttributeValue(i));
+                break;
+            case "page":
+                field.setPage(intValue(reader, i));
+                break;
+            case "property":
+                field.setProperty(reader.getAttributeValue(i));
+                break;
+            default:
+                break;
+            }
+        }
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+            case "arg":
+                field.addArg(readArg(reader));
+                break;
+            case "arg0":
+            case "arg1":
+            case "arg2":
+            case "arg3":
+                field.addArg(readArg(reader, reader.getLocalName().charAt(3) - '0'));
+                break;
+            case "msg":
+                field.addMsg(readMsg(reader));
+                break;
+            case "var":
+                field.addVar(readVar(reader));
+                break;
+            default:
+                skipElement(reader);
+                break;
+            }
+        }
+        return field;
+    }
+
+    private Form readForm(final XMLStreamReader reader) throws XMLStreamException, SAXException {
+        final Form form = new Form();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            switch (reader.getAttributeLocalName(i)) {
+            case "extends":
+                form.setExtends(reader.getAttributeValue(i));
+                break;
+            case "name":
+                form.setName(reader.getAttributeValue(i));
+                break;
+            default:
+                break;
+            }
+        }
+        while (nextChild(reader)) {
+            if ("field".equals(reader.getLocalName())) {
+                form.addField(readField(reader));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return form;
+    }
+
+    /**
+     * Reads a {@code formset} element into the {@code FormSet} of its locale, which is created if the resources do not have it yet.
+     */
+    private void readFormSet(final XMLStreamReader reader, final ValidatorResources resources) throws XMLStreamException, SAXException {
+        final String language = reader.getAttributeValue(null, "language");
+        final String country = reader.getAttributeValue(null, "country");
+        final String variant = reader.getAttributeValue(null, "variant");
+        FormSet formSet = resources.getFormSet(language, country, variant);
+        if (formSet == null) {
+            formSet = new FormSet();
+            formSet.setLanguage(language);
+            formSet.setCountry(country);
+            formSet.setVariant(variant);
+            resources.addFormSet(formSet);
+        }
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+            case "constant":
+                readConstant(reader, resources, formSet);
+                break;
+            case "form":
+                formSet.addForm(readForm(reader));
+                break;
+            default:
+                skipElement(reader);
+                break;
+            }
+        }
+    }
+
+    private void readFormValidation(final XMLStreamReader reader, final ValidatorResources resources) throws XMLStreamException, SAXException {
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+            case "formset":
+                readFormSet(reader, resources);
+                break;
+            case "global":
+                readGlobal(reader, resources);
+                break;
+            default:
+                skipElement(reader);
+                break;
+            }
+        }
+    }
+
+    private void readGlobal(final XMLStreamReader reader, final ValidatorResources resources) throws XMLStreamException {
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+            case "constant":
+                readConstant(reader, resources, null);
+                break;
+            case "validator":
+                resources.addValidatorAction(readValidator(reader));
+                break;
+            default:
+                skipElement(reader);
+                break;
+            }
+        }
+    }
+
+    private Msg readMsg(final XMLStreamReader reader) throws XMLStreamException, SAXException {
+        final Msg msg = new Msg();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            switch (reader.getAttributeLocalName(i)) {
+            case "bundle":
+                msg.setBundle(reader.getAttributeValue(i));
+                break;
+            case "key":
+                msg.setKey(reader.getAttributeValue(i));
+                break;
+            case "name":
+                msg.setName(reader.getAttributeValue(i));
+                break;
+            case "resource":
+                msg.setResource(booleanValue(reader, i));
+                break;
+            default:
+                break;
+            }
+        }
+        skipElement(reader);
+        return msg;
+    }
+
+    /**
+     * Reads the text of the current element, without the text of its child elements, trimmed as the Digester does.
+     */
+    private String readText(final XMLStreamReader reader) throws XMLStreamException {
+        final StringBuilder text = new StringBuilder();
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.CDATA:
+            case XMLStreamConstants.SPACE:
+                text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                break;
+            case XMLStreamConstants.START_ELEMENT:
+                skipElement(reader);
+                break;
+            case XMLStreamConstants.END_ELEMENT:
+                return text.toString().trim();
+            default:
+                break;
+            }
+        }
+        return text.toString().trim();
+    }
+
+    private ValidatorAction readValidator(final XMLStreamReader reader) throws XMLStreamException {
+        final ValidatorAction action = new ValidatorAction();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            switch (reader.getAttributeLocalName(i)) {
+            case "classname":
+                action.setClassName(reader.getAttributeValue(i));
+                break;
+            case "depends":
+                action.setDepends(reader.getAttributeValue(i));
+                break;
+            case "jsFunction":
+                action.setJsFunction(reader.getAttributeValue(i));
+                break;
+            case "jsFunctionName":
+                action.setJsFunctionName(reader.getAttributeValue(i));
+                break;
+            case "method":
+                action.setMethod(reader.getAttributeValue(i));
+                break;
+            case "methodParams":
+                action.setMethodParams(reader.getAttributeValue(i));
+                break;
+            case "msg":
+                action.setMsg(reader.getAttributeValue(i));
+                break;
+            case "name":
+                action.setName(reader.getAttributeValue(i));
+                break;
+            default:
+                break;
+            }
+        }
+        while (nextChild(reader)) {
+            if ("javascript".equals(reader.getLocalName())) {
+                action.setJavascript(readText(reader));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return action;
+    }
+
+    private Var readVar(final XMLStreamReader reader) throws XMLStreamException, SAXException {
+        final Var var = new Var();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            switch (reader.getAttributeLocalName(i)) {
+            case "bundle":
+                var.setBundle(reader.getAttributeValue(i));
+                break;
+            case "resource":
+                var.setResource(booleanValue(reader, i));
+                break;
+            default:
+                break;
+            }
+        }
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+            case "var-jstype":
+                var.setJsType(readText(reader));
+                break;
+            case "var-name":
+                var.setName(readText(reader));
+                break;
+            case "var-value":
+                var.setValue(readText(reader));
+                break;
+            default:
+                skipElement(reader);
+                break;
+            }
+        }
+        return var;
+    }
+
+    /**
+     * Skips the rest of the current element, including its child elements.
+     */
+    private void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            switch (reader.next()) {
+            case XMLStreamConstants.START_ELEMENT:
+                depth++;
+                break;
+            case XMLStreamConstants.END_ELEMENT:
+                depth--;
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
+    /**
+     * Validates a file against its DTD with a validating SAX parser.
+     */
+    private void validate(final URL url) throws IOException, SAXException {
+        final XMLReader reader;
+        try {
+            final SAXParserFactory factory = SAXParserFactory.newInstance();
+            factory.setNamespaceAware(true);
+            factory.setValidating(true);
+            reader = factory.newSAXParser().getXMLReader();
+        } catch (final ParserConfigurationException e) {
+            throw new SAXException(e);
+        }
+        reader.setEntityResolver((publicId, systemId) -> {
+            final URL dtd = getDtd(publicId);
+            if (dtd == null) {
+                if (externalEntities) {
+                    return null;
+                }
+                throw new SAXException(refused(systemId));
+            }
+            return new InputSource(dtd.toExternalForm());
+        });
+        reader.setErrorHandler(STRICT);
+        reader.parse(new InputSource(url.toExternalForm()));
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.xml.sax.SAXException;
+
+/**
+ * Writes and reads binary snapshots of processed {@link ValidatorResources}.
+ * <p>
+ * Loading resources from XML parses each file with a validating Digester and then processes the result, merging the {@code FormSet}s and expanding the
+ * constants. A snapshot holds the model as it is after processing, so {@link #read(InputStream)} skips both: a service can build the snapshot when it is
+ * packaged and load it at startup.
+ * </p>
+ * <pre>
+ * java org.apache.commons.validator.ValidatorResourcesSnapshot validation.ser validator-rules.xml validation.xml
+ * </pre>
+ * <pre>
+ * ValidatorResources resources;
+ * try (InputStream in = getClass().getResourceAsStream("/validation.ser")) {
+ *     resources = ValidatorResourcesSnapshot.read(in);
+ * }
+ * </pre>
+ * <p>
+ * A snapshot is a compressed Java serialization of the model behind a short header. Reading it only resolves the model classes and the
+ * strings, boxed primitives, locales, lists and maps they hold, and rejects any other class. A snapshot is tied to the version of Commons Validator
+ * that wrote it; build it again after an upgrade. {@link #isEquivalent(ValidatorResources, ValidatorResources)} checks that a snapshot describes the
+ * same rules as its XML source.
+ * </p>
+ *
+ * @since 1.11.1
+ */
+public final class ValidatorResourcesSnapshot {
+
+    /**
+     * An {@code ObjectInputStream} that only resolves the classes of the resources model and the JDK classes it holds.
+     */
+    private static final class ModelInputStream extends ObjectInputStream {
+
+        ModelInputStream(final InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            String name = desc.getName();
+            final int dimensions = name.lastIndexOf('[') + 1;
+            if (dimensions > 0) {
+                name = name.length() == dimensions + 1 ? "" : name.substring(dimensions + 1, name.length() - 1);
+            }
+            if (!name.isEmpty() && !MODEL_CLASSES.contains(name)) {
+                throw new InvalidClassException(desc.getName(), "Not part of a ValidatorResources snapshot");
+            }
+            return super.resolveClass(desc);
+        }
+    }
+
+    /** The first bytes of a snapshot, "CVRS". */
+    private static final int MAGIC = 0x43565253;
+
+    /** The version of the snapshot format. */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * The classes a snapshot may hold: the model, its deprecated {@code FastHashMap}s, and the strings, boxed primitives, locales and collections of the
+     * JDK it is made of.
+     */
+    private static final Set<String> MODEL_CLASSES = new HashSet<>(Arrays.asList(
+            Arg.class.getName(), Field.class.getName(), Form.class.getName(), FormSet.class.getName(), Msg.class.getName(), Var.class.getName(),
+            ValidatorAction.class.getName(), ValidatorResources.class.getName(),
+            "org.apache.commons.collections.FastHashMap",
+            "java.lang.String", "java.lang.Number", "java.lang.Boolean", "java.lang.Byte", "java.lang.Character", "java.lang.Short", "java.lang.Integer",
+            "java.lang.Long", "java.lang.Float", "java.lang.Double",
+            "java.util.Locale", "java.util.ArrayList", "java.util.HashMap", "java.util.Map",
+            "java.util.Collections$EmptyList", "java.util.Collections$EmptyMap", "java.util.Collections$EmptySet",
+            "java.util.Collections$SingletonList", "java.util.Collections$SingletonMap", "java.util.Collections$SingletonSet",
+            "java.util.Collections$UnmodifiableCollection", "java.util.Collections$UnmodifiableList", "java.util.Collections$UnmodifiableRandomAccessList",
+            "java.util.Collections$UnmodifiableMap", "java.util.Collections$UnmodifiableSet"));
+
+    private static void describe(final List<String> lines, final String prefix, final Map<String, Arg>[] args) {
+        for (int position = 0; position < args.length; position++) {
+            if (args[position] != null) {
+                for (final Arg arg : new TreeMap<>(args[position]).values()) {
+                    lines.add(prefix + "arg" + position + " name=" + arg.getName() + " key=" + arg.getKey() + " bundle=" + arg.getBundle() + " resource="
+                            + arg.isResource());
+                }
+            }
+        }
+    }
+
+    /**
+     * Describes the rules of processed resources, one line per item, in an order that does not depend on how the resources were built.
+     */
+    private static List<String> describe(final ValidatorResources resources) {
+        resources.processDeferredFormSets();
+        final List<String> lines = new ArrayList<>();
+        new TreeMap<>(resources.getConstants()).forEach((name, value) -> lines.add("constant " + name + "=" + value));
+        for (final ValidatorAction action : new TreeMap<>(resources.getValidatorActions()).values()) {
+            lines.add("action " + action.getName() + " class=" + action.getClassname() + " method=" + action.getMethod() + " params="
+                    + action.getMethodParams() + " depends=" + action.getDepends() + " msg=" + action.getMsg() + " jsFunctionName="
+                    + action.getJsFunctionName());
+            lines.add("action " + action.getName() + " javascript=" + action.getJavascript());
+        }
+        describe(lines, "default", resources.defaultFormSet);
+        for (final Map.Entry<String, FormSet> entry : new TreeMap<>(resources.formSets()).entrySet()) {
+            describe(lines, entry.getKey(), entry.getValue());
+        }
+        return lines;
+    }
+
+    private static void describe(final List<String> lines, final String locale, final FormSet formSet) {
+        if (formSet == null) {
+            return;
+        }
+        lines.add("formset " + locale + " language=" + formSet.getLanguage() + " country=" + formSet.getCountry() + " variant=" + formSet.getVariant());
+        for (final Form form : new TreeMap<>(formSet.getForms()).values()) {
+            final String formPrefix = "form " + locale + "/" + form.getName();
+            lines.add(formPrefix + " extends=" + form.getExtends());
+            for (final Field field : form.getFields()) {
+                final String prefix = formPrefix + " field " + field.getKey() + " ";
+                lines.add(prefix + "property=" + field.getProperty() + " indexedProperty=" + field.getIndexedProperty() + " indexedListProperty="
+                        + field.getIndexedListProperty() + " depends=" + field.getDepends() + " page=" + field.getPage() + " fieldOrder="
+                        + field.getFieldOrder() + " clientValidation=" + field.isClientValidation());
+                for (final Var var : new TreeMap<>(field.getVars()).values()) {
+                    lines.add(prefix + "var " + var.getName() + "=" + var.getValue() + " jsType=" + var.getJsType() + " bundle=" + var.getBundle()
+                            + " resource=" + var.isResource());
+                }
+                for (final Msg msg : new TreeMap<>(field.getMessages()).values()) {
+                    lines.add(prefix + "msg " + msg.getName() + " key=" + msg.getKey() + " bundle=" + msg.getBundle() + " resource=" + msg.isResource());
+                }
+                describe(lines, prefix, field.args);
+            }
+        }
+    }
+
+    /**
+     * Finds the first difference between the rules of two processed resources.
+     *
+     * @param expected The resources loaded from the source, usually XML.
+     * @param actual   The resources loaded from a snapshot.
+     * @return A description of the first difference, or {@code null} if the resources describe the same rules.
+     */
+    static String difference(final ValidatorResources expected, final ValidatorResources actual) {
+        final List<String> expectedLines = describe(expected);
+        final List<String> actualLines = describe(actual);
+        final int count = Math.min(expectedLines.size(), actualLines.size());
+        for (int i = 0; i < count; i++) {
+            if (!expectedLines.get(i).equals(actualLines.get(i))) {
+                return "expected <" + expectedLines.get(i) + "> but was <" + actualLines.get(i) + ">";
+            }
+        }
+        if (expectedLines.size() > count) {
+            return "missing <" + expectedLines.get(count) + ">";
+        }
+        if (actualLines.size() > count) {
+            return "unexpected <" + actualLines.get(count) + ">";
+        }
+        return null;
+    }
+
+    /**
+     * Tests whether two processed resources describe the same rules: the same constants, {@code ValidatorAction}s, {@code FormSet}s, {@code Form}s and
+     * {@code Field}s, with the same variables, messages and arguments.
+     *
+     * @param expected The resources loaded from the source, usually XML.
+     * @param actual   The resources loaded from a snapshot.
+     * @return true if the resources describe the same rules.
+     */
+    public static boolean isEquivalent(final ValidatorResources expected, final ValidatorResources actual) {
+        return difference(expected, actual) == null;
+    }
+
+    /**
+     * Writes a snapshot of the given XML files and checks that it reads back to the same rules.
+     *
+     * @param args The snapshot file to write followed by the XML files, in the order they are to be loaded.
+     * @throws IOException  if a file cannot be read or written.
+     * @throws SAXException if an XML file cannot be parsed.
+     * @throws IllegalArgumentException if there are fewer than two arguments.
+     * @throws IllegalStateException if the snapshot does not read back to the same rules.
+     */
+    public static void main(final String[] args) throws IOException, SAXException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: java " + ValidatorResourcesSnapshot.class.getName() + " <snapshot> <validation.xml>...");
+        }
+        final URL[] urls = new URL[args.length - 1];
+        for (int i = 1; i < args.length; i++) {
+            urls[i - 1] = new File(args[i]).toURI().toURL();
+        }
+        final ValidatorResources resources = new ValidatorResources(urls);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(Paths.get(args[0])))) {
+            write(resources, out);
+        }
+        final ValidatorResources snapshot;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(Paths.get(args[0])))) {
+            snapshot = read(in);
+        }
+        final String difference = difference(resources, snapshot);
+        if (difference != null) {
+            throw new IllegalStateException("The snapshot differs from the XML: " + difference);
+        }
+        System.out.println("Wrote " + args[0] + " (" + Files.size(Paths.get(args[0])) + " bytes, " + describe(resources).size() + " rules)");
+    }
+
+    /**
+     * Reads a snapshot written by {@link #write(ValidatorResources, OutputStream)}. The resources are ready to use, without parsing or processing.
+     *
+     * @param in The stream to read from, which is not closed.
+     * @return The resources.
+     * @throws IOException if the stream cannot be read or does not hold a snapshot of this format.
+     */
+    public static ValidatorResources read(final InputStream in) throws IOException {
+        final DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a ValidatorResources snapshot");
+        }
+        final int version = data.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported ValidatorResources snapshot format version " + version);
+        }
+        final ObjectInputStream objects = new ModelInputStream(new GZIPInputStream(data));
+        try {
+            return (ValidatorResources) objects.readObject();
+        } catch (final ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Invalid ValidatorResources snapshot", e);
+        }
+    }
+
+    /**
+     * Writes a snapshot of processed resources. The {@code FormSet}s whose processing was deferred are processed first.
+     *
+     * @param resources The resources, which must have been processed.
+     * @param out       The stream to write to, which is not closed.
+     * @throws IOException if the stream cannot be written.
+     * @throws IllegalArgumentException if the resources have not been processed.
+     */
+    public static void write(final ValidatorResources resources, final OutputStream out) throws IOException {
+        if (resources.defaultFormSet == null || !resources.defaultFormSet.isProcessed()) {
+            throw new IllegalArgumentException("ValidatorResources must be processed before writing a snapshot");
+        }
+        resources.processDeferredFormSets();
+        final DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.flush();
+        final GZIPOutputStream zip = new GZIPOutputStream(out);
+        final ObjectOutputStream objects = new ObjectOutputStream(zip);
+        objects.writeObject(resources);
+        objects.flush();
+        zip.finish();
+        out.flush();
+    }
+
+    private ValidatorResourcesSnapshot() {
+        // static only
+    }
+}
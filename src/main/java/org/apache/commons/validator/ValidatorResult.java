@@ -153,6 +153,17 @@ public class ValidatorResult implements Serializable {
         hAction.put(validatorName, new ResultStatus(result, value));
     }
 
+    /**
+     * Creates a copy of this result, with copies of the results of its validator actions.
+     *
+     * @return A copy that changing this result leaves alone.
+     */
+    ValidatorResult copy() {
+        final ValidatorResult copy = new ValidatorResult(field);
+        hAction.forEach((validatorName, status) -> copy.hAction.put(validatorName, new ResultStatus(status.isValid(), status.getResult())));
+        return copy;
+    }
+
     /**
      * Indicate whether a specified validator is in the Result.
      *
@@ -154,4 +154,14 @@ public class ValidatorResults implements Serializable {
         hResults.putAll(results.hResults);
     }
 
+    /**
+     * Merges copies of the results of another ValidatorResults into mine, so
+     * that changing either leaves the other alone.
+     *
+     * @param results ValidatorResults to merge.
+     */
+    void mergeCopies(final ValidatorResults results) {
+        results.hResults.forEach((key, result) -> hResults.put(key, result.copy()));
+    }
+
 }
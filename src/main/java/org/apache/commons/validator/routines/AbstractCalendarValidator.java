@@ -404,6 +404,26 @@ public abstract class AbstractCalendarValidator extends AbstractFormatValidator
         return parse(value, pattern, locale, (TimeZone) null) != null;
     }
 
+    /**
+     * Validate using the specified pattern and/or {@link Locale}, parsing with the given context.
+     *
+     * <p>The context records the converted value and, for an invalid
+     *    value, the index it was rejected at. It also keeps the
+     *    {@code Format} for the next value with the same pattern and
+     *    locale, so one context can validate a batch of values without
+     *    creating a {@code DateFormat} per value.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to format the value.
+     * @param locale The locale to use for the Format, defaults to the default
+     * @param context The context to parse with, reused between values.
+     * @return {@code true} if the value is valid.
+     * @since 1.11.1
+     */
+    public boolean isValid(final String value, final String pattern, final Locale locale, final ParseContext context) {
+        return parse(value, pattern, locale, (TimeZone) null, context) != null;
+    }
+
     /**
      * Checks if the value is valid against a specified pattern.
      *
@@ -428,6 +448,41 @@ public abstract class AbstractCalendarValidator extends AbstractFormatValidator
 
     }
 
+    /**
+     * Checks if the value is valid against a specified pattern, reusing
+     * the {@code Format} held by the context.
+     *
+     * <p>The value is parsed with
+     *    {@link #parseValue(String, Format, ParseContext)}, not with
+     *    {@link #parse(String, Format)}, so a subclass that changes how
+     *    a value is parsed should override the former.</p>
+     *
+     * @param value The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the
+     *        default for the {@link Locale} if {@code null}.
+     * @param locale The locale to use for the date format, system default if null.
+     * @param timeZone The Time Zone used to parse the date, system default if null.
+     * @param context The context to parse with, reused between values.
+     * @return The parsed value if valid or {@code null} if invalid.
+     * @since 1.11.1
+     */
+    protected Object parse(String value, final String pattern, final Locale locale, final TimeZone timeZone, final ParseContext context) {
+        value = value == null ? null : value.trim();
+        if (GenericValidator.isBlankOrNull(value)) {
+            context.begin();
+            context.setError(0);
+            return null;
+        }
+        final Object parsedValue = parseValue(value, context.getFormat(this, pattern, locale, timeZone), context);
+        if (parsedValue instanceof Calendar) {
+            // the Calendar belongs to the DateFormat the context reuses, so the next value would overwrite it
+            final Object calendar = ((Calendar) parsedValue).clone();
+            context.setValue(context.getIndex(), calendar);
+            return calendar;
+        }
+        return parsedValue;
+    }
+
     /**
      * rocess the parsed value, performing any further validation
      *    and type conversion required.
@@ -170,20 +170,45 @@ public abstract class AbstractFormatValidator implements Serializable {
 
     /**
      * Parses the value with the specified {@code Format}.
+     * <p>
+     * The {@link ParseContext} overloads of the subclasses parse with {@link #parseValue(String, Format, ParseContext)} and do not call this method, so
+     * an override of this method is not used by them.
+     * </p>
      *
      * @param value     The value to be parsed.
      * @param formatter The Format to parse the value with.
      * @return The parsed value if valid or {@code null} if invalid.
      */
     protected Object parse(final String value, final Format formatter) {
-        final ParsePosition pos = new ParsePosition(0);
+        return parseValue(value, formatter, new ParseContext());
+    }
+
+    /**
+     * Parses the value with the specified {@code Format}, recording the position, error index and result in the given context.
+     * <p>
+     * Subclasses that change how a value is parsed should override this method rather than {@link #parse(String, Format)}, which delegates to it.
+     * </p>
+     *
+     * @param value     The value to be parsed.
+     * @param formatter The Format to parse the value with.
+     * @param context   The context to parse with, reused between values.
+     * @return The parsed value if valid or {@code null} if invalid.
+     * @since 1.11.1
+     */
+    protected Object parseValue(final String value, final Format formatter, final ParseContext context) {
+        final ParsePosition pos = context.begin();
         Object parsedValue = formatter.parseObject(value, pos);
-        if (pos.getErrorIndex() > -1 || isStrict() && pos.getIndex() < value.length()) {
+        if (pos.getErrorIndex() > -1) {
+            return null;
+        }
+        if (isStrict() && pos.getIndex() < value.length()) {
+            context.setError(pos.getIndex());
             return null;
         }
         if (parsedValue != null) {
             parsedValue = processParsedValue(parsedValue, formatter);
         }
+        context.setValue(pos.getIndex(), parsedValue);
         return parsedValue;
     }
 
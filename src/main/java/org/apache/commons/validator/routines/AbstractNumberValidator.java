@@ -269,6 +269,24 @@ public abstract class AbstractNumberValidator extends AbstractFormatValidator {
         return parse(value, pattern, locale) != null;
     }
 
+    /**
+     * Tests validity using the specified pattern and/or {@link Locale}, parsing with the given context.
+     * <p>
+     * The context records the converted value and, for an invalid value, the index it was rejected at. It also keeps the {@code Format} for the next value
+     * with the same pattern and locale, so one context can validate a batch of values without creating a {@code Format} per value.
+     * </p>
+     *
+     * @param value   The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the default for the {@link Locale} if {@code null}.
+     * @param locale  The locale to use for the number format, system default if null.
+     * @param context The context to parse with, reused between values.
+     * @return {@code true} if the value is valid.
+     * @since 1.11.1
+     */
+    public boolean isValid(final String value, final String pattern, final Locale locale, final ParseContext context) {
+        return parse(value, pattern, locale, context) != null;
+    }
+
     /**
      * Tests if the value is less than or equal to a maximum.
      *
@@ -326,6 +344,30 @@ public abstract class AbstractNumberValidator extends AbstractFormatValidator {
         return parse(value, getFormat(pattern, locale));
     }
 
+    /**
+     * Parses the value using the specified pattern, reusing the {@code Format} held by the context.
+     * <p>
+     * The value is parsed with {@link #parseValue(String, Format, ParseContext)}, not with {@link #parse(String, Format)}, so a subclass that changes how a
+     * value is parsed should override the former.
+     * </p>
+     *
+     * @param value   The value validation is being performed on.
+     * @param pattern The pattern used to validate the value against, or the default for the {@link Locale} if {@code null}.
+     * @param locale  The locale to use for the number format, system default if null.
+     * @param context The context to parse with, reused between values.
+     * @return The parsed value if valid or {@code null} if invalid.
+     * @since 1.11.1
+     */
+    protected Object parse(String value, final String pattern, final Locale locale, final ParseContext context) {
+        value = value == null ? null : value.trim();
+        if (GenericValidator.isBlankOrNull(value)) {
+            context.begin();
+            context.setError(0);
+            return null;
+        }
+        return parseValue(value, context.getFormat(this, pattern, locale, null), context);
+    }
+
     /**
      * Processes the parsed value, performing any further validation and type conversion required.
      *
@@ -244,6 +244,36 @@ public class BigDecimalValidator extends AbstractNumberValidator {
         return isFinite(value) && isFinite(min) ? compareTo(value, min) >= 0 : value.doubleValue() >= min.doubleValue();
     }
 
+    /**
+     * Parses the value with the specified {@code Format}.
+     * <p>
+     * A value in the usual shape for a {@link DecimalFormat} (its prefix and suffix around ASCII digits, grouping and decimal separators) is scanned straight
+     * into an unscaled {@code long} and a scale, without a {@code DecimalFormat} parse. Any other value is parsed with the {@code Format}.
+     * </p>
+     *
+     * @param value     The value to be parsed.
+     * @param formatter The Format to parse the value with.
+     * @param context   The context to parse with, reused between values.
+     * @return The parsed value if valid or {@code null} if invalid.
+     */
+    @Override
+    protected Object parseValue(final String value, final Format formatter, final ParseContext context) {
+        final Object parsedValue = scan(value, formatter, context);
+        return parsedValue != null ? parsedValue : parseFormat(value, formatter, context);
+    }
+
+    /**
+     * Parses the value with the {@code Format} only, skipping the scan.
+     *
+     * @param value     The value to be parsed.
+     * @param formatter The Format to parse the value with.
+     * @param context   The context to parse with.
+     * @return The parsed value if valid or {@code null} if invalid.
+     */
+    Object parseFormat(final String value, final Format formatter, final ParseContext context) {
+        return super.parseValue(value, formatter, context);
+    }
+
     /**
      * Converts the parsed value to a {@code BigDecimal}.
      *
@@ -261,6 +291,28 @@ public class BigDecimalValidator extends AbstractNumberValidator {
         return decimal;
     }
 
+    /**
+     * Scans the value with a {@link DecimalScanner} for the {@code Format}.
+     *
+     * @param value     The value to be scanned.
+     * @param formatter The Format the value should be in.
+     * @param context   The context to record a recognized value in.
+     * @return The scanned value converted by {@link #processParsedValue(Object, Format)} or {@code null} if the scanner does not recognize the value, in which
+     *         case it must be parsed with the {@code Format}.
+     */
+    Object scan(final String value, final Format formatter, final ParseContext context) {
+        final DecimalScanner scanner = DecimalScanner.getInstance(formatter);
+        if (scanner == null || !scanner.scan(value)) {
+            return null;
+        }
+        final Object parsedValue = processParsedValue(scanner.toBigDecimal(), formatter);
+        if (parsedValue != null) {
+            context.begin();
+            context.setValue(value.length(), parsedValue);
+        }
+        return parsedValue;
+    }
+
     /**
      * Validates and converts a {@code BigDecimal} using the default {@link Locale}.
      *
@@ -87,26 +87,46 @@ public class CurrencyValidator extends BigDecimalValidator {
      *    symbol is missing. This method re-parses with a format
      *    without the currency symbol if it fails initially.</p>
      *
+     * <p>The value is first scanned with and without the currency
+     *    symbol, so an amount in the usual shape for the locale is
+     *    converted without any {@code DecimalFormat} parse. The
+     *    {@code Format} is only used for values the scan does not
+     *    recognize.</p>
+     *
      * @param value The value to be parsed.
      * @param formatter The Format to parse the value with.
+     * @param context The context to parse with, reused between values.
      * @return The parsed value if valid or {@code null} if invalid.
      */
     @Override
-    protected Object parse(final String value, final Format formatter) {
+    protected Object parseValue(final String value, final Format formatter, final ParseContext context) {
 
-        // Initial parse of the value
-        Object parsedValue = super.parse(value, formatter);
+        // Scan the value with the currency symbol
+        Object parsedValue = scan(value, formatter, context);
         if (parsedValue != null || !(formatter instanceof DecimalFormat)) {
-            return parsedValue;
+            return parsedValue != null ? parsedValue : parseFormat(value, formatter, context);
         }
 
-        // Re-parse using a pattern without the currency symbol and its separator
+        // Scan using a pattern without the currency symbol and its separator
         final DecimalFormat decimalFormat = (DecimalFormat) formatter;
         final String pattern = decimalFormat.toPattern();
+        DecimalFormat withoutSymbol = null;
         if (pattern.indexOf(CURRENCY_SYMBOL) >= 0) {
-            decimalFormat.applyPattern(removeSymbol(pattern, CURRENCY_SYMBOL));
-            parsedValue = super.parse(value, decimalFormat);
+            withoutSymbol = (DecimalFormat) decimalFormat.clone();
+            withoutSymbol.applyPattern(removeSymbol(pattern, CURRENCY_SYMBOL));
+            parsedValue = scan(value, withoutSymbol, context);
+            if (parsedValue != null) {
+                return parsedValue;
+            }
+        }
+
+        // Initial parse of the value
+        parsedValue = parseFormat(value, decimalFormat, context);
+        if (parsedValue != null || withoutSymbol == null) {
+            return parsedValue;
         }
-        return parsedValue;
+
+        // Re-parse using a pattern without the currency symbol and its separator
+        return parseFormat(value, withoutSymbol, context);
     }
 }
@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.Format;
+
+/**
+ * Scans locale formatted decimal amounts straight into an unscaled {@code long} and a scale.
+ * <p>
+ * This is a fast path for the {@code BigDecimal} based validators: it reads the prefixes, suffixes and separators of a {@link DecimalFormat} once and then
+ * recognizes the common, unambiguous shape of a formatted amount (affixes, ASCII digits, grouping and decimal separators) without running
+ * {@link DecimalFormat#parseObject(String, java.text.ParsePosition)}. A {@code BigDecimal} is only created when {@link #toBigDecimal()} is called.
+ * </p>
+ * <p>
+ * The scanner is deliberately narrower than {@code DecimalFormat}: anything it accepts is parsed by {@code DecimalFormat} (with
+ * {@link DecimalFormat#setParseBigDecimal(boolean) parseBigDecimal} enabled) to an equal value with the same scale, while anything it does not recognize
+ * (exponents, non ASCII digits, infinity, trailing text, more than 18 digits and so on) is rejected so that the caller can fall back to the {@code Format}.
+ * </p>
+ * <p>
+ * Instances hold the result of the last scan so are not thread safe, create one per parse as the validators do with their {@code Format}.
+ * </p>
+ */
+final class DecimalScanner {
+
+    /** DecimalFormat's currency symbol */
+    private static final char CURRENCY_SYMBOL = '\u00A4';
+
+    /** Largest unscaled value that can take another digit without overflowing. */
+    private static final long MAX_UNSCALED = (Long.MAX_VALUE - 9) / 10; // CHECKSTYLE IGNORE MagicNumber
+
+    /**
+     * {@code DecimalFormatSymbols.getMonetaryGroupingSeparator()}, which {@code DecimalFormat} parses currency amounts with on Java 15 and above.
+     */
+    private static final Method MONETARY_GROUPING_SEPARATOR = getMonetaryGroupingSeparatorMethod();
+
+    /**
+     * Creates a scanner for the given {@code Format}.
+     *
+     * @param format The format the scanner should recognize values of.
+     * @return A scanner or {@code null} if the format is not a plain {@code DecimalFormat} or uses features the scanner does not support.
+     */
+    static DecimalScanner getInstance(final Format format) {
+        if (format == null || format.getClass() != DecimalFormat.class) {
+            return null;
+        }
+        final DecimalFormat decimalFormat = (DecimalFormat) format;
+        final int multiplier = decimalFormat.getMultiplier();
+        final int multiplierScale;
+        if (multiplier == 1) {
+            multiplierScale = 0;
+        } else if (multiplier == 100) { // CHECKSTYLE IGNORE MagicNumber
+            multiplierScale = 2;
+        } else if (multiplier == 1000) { // CHECKSTYLE IGNORE MagicNumber
+            multiplierScale = 3; // CHECKSTYLE IGNORE MagicNumber
+        } else {
+            return null;
+        }
+        final DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+        if (symbols.getZeroDigit() != '0') {
+            return null;
+        }
+        final boolean currency = decimalFormat.toPattern().indexOf(CURRENCY_SYMBOL) >= 0;
+        final char decimal = currency ? symbols.getMonetaryDecimalSeparator() : symbols.getDecimalSeparator();
+        final char grouping = currency ? getMonetaryGroupingSeparator(symbols) : symbols.getGroupingSeparator();
+        if (decimal == grouping || isDigit(decimal) || isDigit(grouping)) {
+            return null;
+        }
+        return new DecimalScanner(decimalFormat, decimal, grouping, multiplierScale);
+    }
+
+    private static char getMonetaryGroupingSeparator(final DecimalFormatSymbols symbols) {
+        if (MONETARY_GROUPING_SEPARATOR != null) {
+            try {
+                return ((Character) MONETARY_GROUPING_SEPARATOR.invoke(symbols)).charValue();
+            } catch (final ReflectiveOperationException | RuntimeException e) {
+                // fall through to the Java 8 behavior
+            }
+        }
+        return symbols.getGroupingSeparator();
+    }
+
+    private static Method getMonetaryGroupingSeparatorMethod() {
+        try {
+            return DecimalFormatSymbols.class.getMethod("getMonetaryGroupingSeparator");
+        } catch (final NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private final String positivePrefix;
+    private final String positiveSuffix;
+    private final String negativePrefix;
+    private final String negativeSuffix;
+    private final char decimalSeparator;
+    private final char groupingSeparator;
+    private final boolean groupingUsed;
+    private final boolean integerOnly;
+    private final int multiplierScale;
+
+    /** The digits of the last scanned value, without the decimal point. */
+    private long unscaledValue;
+
+    /** The number of fraction digits of the last scanned value. */
+    private int scale;
+
+    private DecimalScanner(final DecimalFormat format, final char decimalSeparator, final char groupingSeparator, final int multiplierScale) {
+        this.positivePrefix = format.getPositivePrefix();
+        this.positiveSuffix = format.getPositiveSuffix();
+        this.negativePrefix = format.getNegativePrefix();
+        this.negativeSuffix = format.getNegativeSuffix();
+        this.decimalSeparator = decimalSeparator;
+        this.groupingSeparator = groupingSeparator;
+        this.groupingUsed = format.isGroupingUsed();
+        this.integerOnly = format.isParseIntegerOnly();
+        this.multiplierScale = multiplierScale;
+    }
+
+    /**
+     * Gets the scale of the last successfully scanned value, before any multiplier of the format is applied.
+     *
+     * @return The number of fraction digits.
+     */
+    int getScale() {
+        return scale;
+    }
+
+    /**
+     * Gets the unscaled value of the last successfully scanned value, including its sign.
+     *
+     * @return The unscaled value.
+     */
+    long getUnscaledValue() {
+        return unscaledValue;
+    }
+
+    /**
+     * Scans the digits between the affixes.
+     *
+     * @return {@code true} if the whole range is a number the scanner recognizes.
+     */
+    private boolean scanNumber(final String value, final int start, final int end) {
+        long unscaled = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean fraction = false;
+        for (int i = start; i < end; i++) {
+            final char c = value.charAt(i);
+            if (isDigit(c)) {
+                if (unscaled > MAX_UNSCALED) {
+                    return false;
+                }
+                unscaled = unscaled * 10 + (c - '0'); // CHECKSTYLE IGNORE MagicNumber
+                digits++;
+                if (fraction) {
+                    fractionDigits++;
+                }
+            } else if (c == groupingSeparator) {
+                // DecimalFormat only accepts a grouping separator in the integer part and backs up over one that is not followed by a digit
+                if (!groupingUsed || fraction || digits == 0 || i + 1 >= end || !isDigit(value.charAt(i + 1))) {
+                    return false;
+                }
+            } else if (c == decimalSeparator && !fraction && !integerOnly) {
+                fraction = true;
+            } else {
+                return false;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        unscaledValue = unscaled;
+        scale = fractionDigits;
+        return true;
+    }
+
+    /**
+     * Scans a value, which must consist entirely of a positive or negative prefix, a number and the matching suffix.
+     * <p>
+     * Prefixes and suffixes are resolved the way {@code DecimalFormat} resolves them: when both the positive and negative affix match, the longer one wins and
+     * the value is rejected when that does not decide it.
+     * </p>
+     *
+     * @param value The value to scan.
+     * @return {@code true} if the value was recognized, {@link #getUnscaledValue()} and {@link #getScale()} then describe it.
+     */
+    boolean scan(final String value) {
+        if (value == null) {
+            return false;
+        }
+        final int length = value.length();
+        boolean positive = value.startsWith(positivePrefix);
+        boolean negative = value.startsWith(negativePrefix);
+        if (positive && negative) {
+            if (positivePrefix.length() > negativePrefix.length()) {
+                negative = false;
+            } else if (positivePrefix.length() < negativePrefix.length()) {
+                positive = false;
+            }
+        }
+        if (!positive && !negative) {
+            return false;
+        }
+        final int start = positive ? positivePrefix.length() : negativePrefix.length();
+        // the number ends where the first suffix candidate starts
+        if (positive && negative) {
+            // identical prefixes, the suffix decides
+            positive = value.endsWith(positiveSuffix);
+            negative = value.endsWith(negativeSuffix);
+            if (positive && negative) {
+                if (positiveSuffix.length() > negativeSuffix.length()) {
+                    negative = false;
+                } else if (positiveSuffix.length() < negativeSuffix.length()) {
+                    positive = false;
+                }
+            }
+        } else if (positive) {
+            positive = value.endsWith(positiveSuffix);
+        } else {
+            negative = value.endsWith(negativeSuffix);
+        }
+        if (positive == negative) {
+            return false;
+        }
+        final int end = length - (positive ? positiveSuffix : negativeSuffix).length();
+        if (end <= start || !scanNumber(value, start, end)) {
+            return false;
+        }
+        // DecimalFormat would read a suffix that starts with part of a number into the number
+        if (end < length && continuesNumber(value, end)) {
+            return false;
+        }
+        if (negative) {
+            unscaledValue = -unscaledValue;
+        }
+        return true;
+    }
+
+    private boolean continuesNumber(final String value, final int index) {
+        final char c = value.charAt(index);
+        if (c == groupingSeparator) {
+            return index + 1 < value.length() && isDigit(value.charAt(index + 1));
+        }
+        return isDigit(c) || c == decimalSeparator;
+    }
+
+    /**
+     * Creates a {@code BigDecimal} for the last scanned value, dividing by the multiplier of the format when it has one.
+     * <p>
+     * The result has the same scale {@code DecimalFormat} gives it: the number of fraction digits that were entered, and for a percent or per mille format the
+     * exact quotient with trailing zeros removed down to that scale.
+     * </p>
+     *
+     * @return The value as a {@code BigDecimal}.
+     */
+    BigDecimal toBigDecimal() {
+        long unscaled = unscaledValue;
+        int exactScale = scale + multiplierScale;
+        while (exactScale > scale && unscaled % 10 == 0) { // CHECKSTYLE IGNORE MagicNumber
+            unscaled /= 10; // CHECKSTYLE IGNORE MagicNumber
+            exactScale--;
+        }
+        return BigDecimal.valueOf(unscaled, exactScale);
+    }
+}
@@ -22,6 +22,7 @@ import java.net.InetAddress;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * <strong>Domain name</strong> validation routines.
@@ -166,26 +167,15 @@ public class DomainValidator implements Serializable {
 
     private static final long serialVersionUID = -4407125112880174009L;
 
-    // RFC2396: domainlabel   = alphanum | alphanum *( alphanum | "-" ) alphanum
-    // Max 63 characters
-    private static final String DOMAIN_LABEL_REGEX = "\\p{Alnum}(?>[\\p{Alnum}-]{0,61}\\p{Alnum})?";
+    /** Maximum length ({@value}) of a domain label. */
+    private static final int MAX_LABEL_LENGTH = 63;
 
-    // RFC2396 toplabel = alpha | alpha *( alphanum | "-" ) alphanum
-    // Max 63 characters
-    private static final String TOP_LABEL_REGEX = "\\p{Alpha}(?>[\\p{Alnum}-]{0,61}\\p{Alnum})?";
+    /** {@link #scanHostname(String)} result for a single domain label, a local host name. */
+    private static final int LOCAL_HOSTNAME = -1;
 
-    /**
-     * The above instances must only be returned via the getInstance() methods.
-     * This is to ensure that the override data arrays are properly protected.
-     */
+    /** {@link #scanHostname(String)} result for input that is not a host name. */
+    private static final int NOT_A_HOSTNAME = -2;
 
-    // RFC2396 hostname = *( domainlabel "." ) toplabel [ "." ]
-    // Note that the regex currently requires both a domain label and a top level label, whereas
-    // the RFC does not. This is because the regex is used to detect if a TLD is present.
-    // If the match fails, input is checked against DOMAIN_LABEL_REGEX (hostnameRegex)
-    // RFC1123 sec 2.1 allows hostnames to start with a digit
-    private static final String DOMAIN_NAME_REGEX =
-            "^(?:" + DOMAIN_LABEL_REGEX + "\\.)+(" + TOP_LABEL_REGEX + ")\\.?$";
     private static final String UNEXPECTED_ENUM_VALUE = "Unexpected enum value: ";
 
     // WARNING: this array MUST be sorted, otherwise it cannot be searched reliably using binary search
@@ -1789,27 +1779,32 @@ public class DomainValidator implements Serializable {
        "localdomain",         // Also widely used as localhost.localdomain
        "localhost",           // RFC2606 defined
     };
+    /*
+     * Guards the override arrays and inUse. A lock rather than a monitor, so that
+     * a virtual thread waiting for it does not pin its carrier thread.
+     */
+    private static final ReentrantLock LOCK = new ReentrantLock();
     /*
      * This field is used to detect whether the getInstance has been called.
      * After this, the method updateTLDOverride is not allowed to be called.
-     * This field does not need to be volatile since it is only accessed from
-     * synchronized methods.
+     * It is set while holding LOCK, and is volatile so that once it is set
+     * getInstance can read it without taking the lock.
      */
-    private static boolean inUse; //NOPMD @GuardedBy("this")
+    private static volatile boolean inUse; //NOPMD @GuardedBy("LOCK")
     /*
      * These arrays are mutable.
      * They can only be updated by the updateTLDOverride method, and readers must first get an instance
-     * using the getInstance methods which are all (now) synchronized.
-     * The only other access is via getTLDEntries which is now synchronized.
+     * using the getInstance methods, which set inUse while holding LOCK.
+     * The only other access is via getTLDEntries which holds LOCK.
      */
     // WARNING: this array MUST be sorted, otherwise it cannot be searched reliably using binary search
-    private static String[] countryCodeTLDsPlus = EMPTY_STRING_ARRAY; //NOPMD @GuardedBy("this")
+    private static String[] countryCodeTLDsPlus = EMPTY_STRING_ARRAY; //NOPMD @GuardedBy("LOCK")
     // WARNING: this array MUST be sorted, otherwise it cannot be searched reliably using binary search
-    private static String[] genericTLDsPlus = EMPTY_STRING_ARRAY; //NOPMD @GuardedBy("this")
+    private static String[] genericTLDsPlus = EMPTY_STRING_ARRAY; //NOPMD @GuardedBy("LOCK")
     // WARNING: this array MUST be sorted, otherwise it cannot be searched reliably using binary search
-    private static String[] countryCodeTLDsMinus = EMPTY_STRING_ARRAY; //NOPMD @GuardedBy("this")
+    private static String[] countryCodeTLDsMinus = EMPTY_STRING_ARRAY; //NOPMD @GuardedBy("LOCK")
     // WARNING: this array MUST be sorted, otherwise it cannot be searched reliably using binary search
-    private static String[] genericTLDsMinus = EMPTY_STRING_ARRAY; //NOPMD @GuardedBy("this")
+    private static String[] genericTLDsMinus = EMPTY_STRING_ARRAY; //NOPMD @GuardedBy("LOCK")
 
     // The constructors are deliberately private to avoid possible problems with unsafe publication.
     // It is vital that the static override arrays are not mutable once they have been used in an instance
@@ -1817,10 +1812,10 @@ public class DomainValidator implements Serializable {
     // result in different settings for the shared default instances
 
     // WARNING: this array MUST be sorted, otherwise it cannot be searched reliably using binary search
-    private static String[] localTLDsMinus = EMPTY_STRING_ARRAY; //NOPMD @GuardedBy("this")
+    private static String[] localTLDsMinus = EMPTY_STRING_ARRAY; //NOPMD @GuardedBy("LOCK")
 
     // WARNING: this array MUST be sorted, otherwise it cannot be searched reliably using binary search
-    private static String[] localTLDsPlus = EMPTY_STRING_ARRAY; //NOPMD @GuardedBy("this")
+    private static String[] localTLDsPlus = EMPTY_STRING_ARRAY; //NOPMD @GuardedBy("LOCK")
 
     /**
      * Tests if a sorted array contains the specified key
@@ -1838,8 +1833,8 @@ public class DomainValidator implements Serializable {
      *
      * @return The singleton instance of this validator.
      */
-    public static synchronized DomainValidator getInstance() {
-        inUse = true;
+    public static DomainValidator getInstance() {
+        setInUse();
         return LazyHolder.DOMAIN_VALIDATOR;
     }
 
@@ -1849,8 +1844,8 @@ public class DomainValidator implements Serializable {
      * @param allowLocal Whether local addresses are considered valid.
      * @return The singleton instance of this validator.
      */
-    public static synchronized DomainValidator getInstance(final boolean allowLocal) {
-        inUse = true;
+    public static DomainValidator getInstance(final boolean allowLocal) {
+        setInUse();
         if (allowLocal) {
             return LazyHolder.DOMAIN_VALIDATOR_WITH_LOCAL;
         }
@@ -1867,8 +1862,8 @@ public class DomainValidator implements Serializable {
      * @return An instance of this validator.
      * @since 1.7
      */
-    public static synchronized DomainValidator getInstance(final boolean allowLocal, final List<Item> items) {
-        inUse = true;
+    public static DomainValidator getInstance(final boolean allowLocal, final List<Item> items) {
+        setInUse();
         return new DomainValidator(allowLocal, items);
     }
 
@@ -1880,43 +1875,63 @@ public class DomainValidator implements Serializable {
      * @throws IllegalArgumentException if the table type is unexpected (should not happen).
      * @since 1.5.1
      */
-    public static synchronized String[] getTLDEntries(final ArrayType table) {
-        final String[] array;
-        switch (table) {
-        case COUNTRY_CODE_MINUS:
-            array = countryCodeTLDsMinus;
-            break;
-        case COUNTRY_CODE_PLUS:
-            array = countryCodeTLDsPlus;
-            break;
-        case GENERIC_MINUS:
-            array = genericTLDsMinus;
-            break;
-        case GENERIC_PLUS:
-            array = genericTLDsPlus;
-            break;
-        case LOCAL_MINUS:
-            array = localTLDsMinus;
-            break;
-        case LOCAL_PLUS:
-            array = localTLDsPlus;
-            break;
-        case GENERIC_RO:
-            array = GENERIC_TLDS;
-            break;
-        case COUNTRY_CODE_RO:
-            array = COUNTRY_CODE_TLDS;
-            break;
-        case INFRASTRUCTURE_RO:
-            array = INFRASTRUCTURE_TLDS;
-            break;
-        case LOCAL_RO:
-            array = LOCAL_TLDS;
-            break;
-        default:
-            throw new IllegalArgumentException(UNEXPECTED_ENUM_VALUE + table);
+    public static String[] getTLDEntries(final ArrayType table) {
+        LOCK.lock();
+        try {
+            final String[] array;
+            switch (table) {
+            case COUNTRY_CODE_MINUS:
+                array = countryCodeTLDsMinus;
+                break;
+            case COUNTRY_CODE_PLUS:
+                array = countryCodeTLDsPlus;
+                break;
+            case GENERIC_MINUS:
+                array = genericTLDsMinus;
+                break;
+            case GENERIC_PLUS:
+                array = genericTLDsPlus;
+                break;
+            case LOCAL_MINUS:
+                array = localTLDsMinus;
+                break;
+            case LOCAL_PLUS:
+                array = localTLDsPlus;
+                break;
+            case GENERIC_RO:
+                array = GENERIC_TLDS;
+                break;
+            case COUNTRY_CODE_RO:
+                array = COUNTRY_CODE_TLDS;
+                break;
+            case INFRASTRUCTURE_RO:
+                array = INFRASTRUCTURE_TLDS;
+                break;
+            case LOCAL_RO:
+                array = LOCAL_TLDS;
+                break;
+            default:
+                throw new IllegalArgumentException(UNEXPECTED_ENUM_VALUE + table);
+            }
+            return Arrays.copyOf(array, array.length); // clone the array
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Records that an instance has been requested, after which the override arrays cannot be updated. Takes the lock only the first time, so that
+     * getting an instance does not contend once the arrays are fixed.
+     */
+    private static void setInUse() {
+        if (!inUse) {
+            LOCK.lock();
+            try {
+                inUse = true;
+            } finally {
+                LOCK.unlock();
+            }
         }
-        return Arrays.copyOf(array, array.length); // clone the array
     }
 
     /*
@@ -1951,6 +1966,37 @@ public class DomainValidator implements Serializable {
         return ch == '.' || ch == '\u3002' || ch == '\uFF0E' || ch == '\uFF61';
     }
 
+    /*
+     * Tests whether the range is a domain label, RFC2396: domainlabel = alphanum | alphanum *( alphanum | "-" ) alphanum,
+     * max 63 characters. RFC1123 sec 2.1 allows hostnames to start with a digit. A top label must also start with a letter,
+     * RFC2396: toplabel = alpha | alpha *( alphanum | "-" ) alphanum.
+     */
+    private static boolean isLabel(final String input, final int start, final int end, final boolean topLabel) {
+        final int length = end - start;
+        if (length < 1 || length > MAX_LABEL_LENGTH || !isAsciiAlphanumeric(input.charAt(end - 1))) {
+            return false;
+        }
+        final char first = input.charAt(start);
+        if (topLabel ? !isAsciiAlpha(first) : !isAsciiAlphanumeric(first)) {
+            return false;
+        }
+        for (int i = start + 1; i < end - 1; i++) {
+            final char ch = input.charAt(i);
+            if (ch != '-' && !isAsciiAlphanumeric(ch)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiAlpha(final char ch) {
+        return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z';
+    }
+
+    private static boolean isAsciiAlphanumeric(final char ch) {
+        return isAsciiAlpha(ch) || ch >= '0' && ch <= '9';
+    }
+
     /*
      * Tests whether the code point is one that IDNA nameprep (RFC 3454 Table B.1, "commonly mapped to
      * nothing") deletes but that is not a Unicode FORMAT character, so the FORMAT check in
@@ -2068,42 +2114,47 @@ public class DomainValidator implements Serializable {
      * @throws IllegalArgumentException if one of the read-only tables is requested.
      * @since 1.5.0
      */
-    public static synchronized void updateTLDOverride(final ArrayType table, final String... tlds) {
-        if (inUse) {
-            throw new IllegalStateException("Can only invoke this method before calling getInstance");
-        }
-        final String[] copy = new String[tlds.length];
-        // Comparisons are always done with lower-case entries
-        for (int i = 0; i < tlds.length; i++) {
-            copy[i] = tlds[i].toLowerCase(Locale.ENGLISH);
-        }
-        Arrays.sort(copy);
-        switch (table) {
-        case COUNTRY_CODE_MINUS:
-            countryCodeTLDsMinus = copy;
-            break;
-        case COUNTRY_CODE_PLUS:
-            countryCodeTLDsPlus = copy;
-            break;
-        case GENERIC_MINUS:
-            genericTLDsMinus = copy;
-            break;
-        case GENERIC_PLUS:
-            genericTLDsPlus = copy;
-            break;
-        case LOCAL_MINUS:
-            localTLDsMinus = copy;
-            break;
-        case LOCAL_PLUS:
-            localTLDsPlus = copy;
-            break;
-        case COUNTRY_CODE_RO:
-        case GENERIC_RO:
-        case INFRASTRUCTURE_RO:
-        case LOCAL_RO:
-            throw new IllegalArgumentException("Cannot update the table: " + table);
-        default:
-            throw new IllegalArgumentException(UNEXPECTED_ENUM_VALUE + table);
+    public static void updateTLDOverride(final ArrayType table, final String... tlds) {
+        LOCK.lock();
+        try {
+            if (inUse) {
+                throw new IllegalStateException("Can only invoke this method before calling getInstance");
+            }
+            final String[] copy = new String[tlds.length];
+            // Comparisons are always done with lower-case entries
+            for (int i = 0; i < tlds.length; i++) {
+                copy[i] = tlds[i].toLowerCase(Locale.ENGLISH);
+            }
+            Arrays.sort(copy);
+            switch (table) {
+            case COUNTRY_CODE_MINUS:
+                countryCodeTLDsMinus = copy;
+                break;
+            case COUNTRY_CODE_PLUS:
+                countryCodeTLDsPlus = copy;
+                break;
+            case GENERIC_MINUS:
+                genericTLDsMinus = copy;
+                break;
+            case GENERIC_PLUS:
+                genericTLDsPlus = copy;
+                break;
+            case LOCAL_MINUS:
+                localTLDsMinus = copy;
+                break;
+            case LOCAL_PLUS:
+                localTLDsPlus = copy;
+                break;
+            case COUNTRY_CODE_RO:
+            case GENERIC_RO:
+            case INFRASTRUCTURE_RO:
+            case LOCAL_RO:
+                throw new IllegalArgumentException("Cannot update the table: " + table);
+            default:
+                throw new IllegalArgumentException(UNEXPECTED_ENUM_VALUE + table);
+            }
+        } finally {
+            LOCK.unlock();
         }
     }
 
@@ -2124,19 +2175,6 @@ public class DomainValidator implements Serializable {
     // .bl  country-code    Not assigned
     // .um  country-code    Not assigned
 
-    /**
-     * RegexValidator for matching domains.
-     */
-    private final RegexValidator domainRegex =
-            new RegexValidator(DOMAIN_NAME_REGEX);
-
-    /**
-     * RegexValidator for matching a local hostname
-     */
-    // RFC1123 sec 2.1 allows hostnames to start with a digit
-    private final RegexValidator hostnameRegex =
-            new RegexValidator(DOMAIN_LABEL_REGEX);
-
     /** Local override. */
     final String[] myCountryCodeTLDsMinus;
 
@@ -2158,6 +2196,9 @@ public class DomainValidator implements Serializable {
     /** Local override. */
     final String[] myLocalTLDsMinus;
 
+    /** The verdicts of {@link #isValid(String)}, or {@code null} if they are not cached. */
+    private final transient DomainVerdictCache verdictCache;
+
     /*
      * It is vital that instances are immutable. This is because the default instances are shared.
      */
@@ -2174,6 +2215,7 @@ public class DomainValidator implements Serializable {
         myGenericTLDsMinus = genericTLDsMinus;
         myLocalTLDsPlus = localTLDsPlus;
         myLocalTLDsMinus = localTLDsMinus;
+        verdictCache = null;
     }
 
     /**
@@ -2234,6 +2276,21 @@ public class DomainValidator implements Serializable {
         myGenericTLDsPlus = genPlus;
         myLocalTLDsMinus = localMinus;
         myLocalTLDsPlus = localPlus;
+        verdictCache = null;
+    }
+
+    /**
+     * Private constructor, copying the settings and overrides of another instance and caching verdicts.
+     */
+    private DomainValidator(final DomainValidator source, final DomainVerdictCache verdictCache) {
+        this.allowLocal = source.allowLocal;
+        myCountryCodeTLDsMinus = source.myCountryCodeTLDsMinus;
+        myCountryCodeTLDsPlus = source.myCountryCodeTLDsPlus;
+        myGenericTLDsMinus = source.myGenericTLDsMinus;
+        myGenericTLDsPlus = source.myGenericTLDsPlus;
+        myLocalTLDsMinus = source.myLocalTLDsMinus;
+        myLocalTLDsPlus = source.myLocalTLDsPlus;
+        this.verdictCache = verdictCache;
     }
 
     private String chompLeadingDot(final String str) {
@@ -2243,6 +2300,37 @@ public class DomainValidator implements Serializable {
         return str;
     }
 
+    /*
+     * Scans an ASCII host name, RFC2396 hostname = *( domainlabel "." ) toplabel [ "." ], in a single pass.
+     * Returns the index of the top label when there is more than one label, LOCAL_HOSTNAME for a single
+     * domain label without a trailing dot and NOT_A_HOSTNAME otherwise. A domain label is required before
+     * the top label, whereas the RFC does not require one, because the result is used to detect if a TLD is present.
+     */
+    private static int scanHostname(final String ascii) {
+        final int end = hostnameEnd(ascii);
+        int labelStart = 0;
+        for (int i = 0; i < end; i++) {
+            if (ascii.charAt(i) == '.') {
+                if (!isLabel(ascii, labelStart, i, false)) {
+                    return NOT_A_HOSTNAME;
+                }
+                labelStart = i + 1;
+            }
+        }
+        if (labelStart == 0) {
+            return end == ascii.length() && isLabel(ascii, 0, end, false) ? LOCAL_HOSTNAME : NOT_A_HOSTNAME;
+        }
+        return isLabel(ascii, labelStart, end, true) ? labelStart : NOT_A_HOSTNAME;
+    }
+
+    /*
+     * Gets the end of the host name without its optional trailing dot.
+     */
+    private static int hostnameEnd(final String ascii) {
+        final int length = ascii.length();
+        return length > 0 && ascii.charAt(length - 1) == '.' ? length - 1 : length;
+    }
+
     /**
      * Gets a copy of an instance level internal array.
      *
@@ -2278,6 +2366,17 @@ public class DomainValidator implements Serializable {
         return Arrays.copyOf(array, array.length); // clone the array
     }
 
+    /**
+     * Gets the cache of the verdicts of {@link #isValid(String)}, with its hit and miss counts.
+     *
+     * @return The cache or {@code null} if this instance does not cache verdicts.
+     * @see #withVerdictCache(int)
+     * @since 1.11.1
+     */
+    public DomainVerdictCache getVerdictCache() {
+        return verdictCache;
+    }
+
     /**
      * Tests whether this instance allow local addresses.
      *
@@ -2298,19 +2397,32 @@ public class DomainValidator implements Serializable {
         if (domain == null) {
             return false;
         }
+        if (verdictCache == null) {
+            return isValidDomain(domain);
+        }
+        final Boolean cached = verdictCache.get(domain);
+        if (cached != null) {
+            return cached.booleanValue();
+        }
+        final boolean verdict = isValidDomain(domain);
+        verdictCache.put(domain, verdict);
+        return verdict;
+    }
+
+    private boolean isValidDomain(final String domain) {
         final String ascii = unicodeToASCII(domain);
         // hosts must be equally reachable via punycode and Unicode
         // Unicode is never shorter than punycode, so check punycode
         // if domain did not convert, then it will be caught by ASCII
-        // checks in the regexes below
+        // checks in the label scan below
         if (ascii.length() > MAX_DOMAIN_LENGTH) {
             return false;
         }
-        final String[] groups = domainRegex.match(ascii);
-        if (groups != null && groups.length > 0) {
-            return isValidTld(groups[0]);
+        final int topLabel = scanHostname(ascii);
+        if (topLabel >= 0) {
+            return isValidTld(ascii.substring(topLabel, hostnameEnd(ascii)));
         }
-        return allowLocal && hostnameRegex.isValid(ascii);
+        return allowLocal && topLabel == LOCAL_HOSTNAME;
     }
 
     /**
@@ -2335,12 +2447,11 @@ public class DomainValidator implements Serializable {
         // hosts must be equally reachable via punycode and Unicode
         // Unicode is never shorter than punycode, so check punycode
         // if domain did not convert, then it will be caught by ASCII
-        // checks in the regexes below
+        // checks in the label scan below
         if (ascii.length() > MAX_DOMAIN_LENGTH) {
             return false;
         }
-        final String[] groups = domainRegex.match(ascii);
-        return groups != null && groups.length > 0 || hostnameRegex.isValid(ascii);
+        return scanHostname(ascii) != NOT_A_HOSTNAME;
     }
 
     /**
@@ -2399,4 +2510,21 @@ public class DomainValidator implements Serializable {
                 || isValidGenericTld(tld)
                 || isValidCountryCodeTld(tld);
     }
+
+    /**
+     * Creates a validator with the same settings and TLD overrides as this one that remembers the verdicts of {@link #isValid(String)} for up to the given
+     * number of domains, evicting the least recently used ones.
+     * <p>
+     * Use this where the same domains are validated many times, and pass the result to {@link EmailValidator} or {@link UrlValidator}. This instance is not
+     * changed, so the shared instances returned by {@code getInstance} never cache.
+     * </p>
+     *
+     * @param maximumSize The maximum number of domains to remember, at least 1.
+     * @return A new validator that caches its verdicts.
+     * @throws IllegalArgumentException if the maximum size is less than 1.
+     * @since 1.11.1
+     */
+    public DomainValidator withVerdictCache(final int maximumSize) {
+        return new DomainValidator(this, new DomainVerdictCache(maximumSize));
+    }
 }
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread safe cache of the verdicts of {@link DomainValidator#isValid(String)}.
+ * <p>
+ * Workloads such as mailing lists or crawls see the same few thousand domains over and over. A {@link DomainValidator} created with
+ * {@link DomainValidator#withVerdictCache(int)} remembers its verdicts here, so a repeated domain skips the IDN conversion, the label scan and the TLD
+ * lookups. Since {@link EmailValidator} and {@link UrlValidator} both accept a {@code DomainValidator}, they share the cache:
+ * </p>
+ * <pre>
+ * DomainValidator domainValidator = DomainValidator.getInstance(false).withVerdictCache(10_000);
+ * EmailValidator emailValidator = new EmailValidator(false, false, domainValidator);
+ * ...
+ * double hitRate = domainValidator.getVerdictCache().getHitRate();
+ * </pre>
+ * <p>
+ * The cache is split into segments, each evicting its least recently used domain when full, so that concurrent threads rarely contend for the same lock.
+ * The maximum size is therefore approximate: it is rounded up to a multiple of the number of segments, and a segment that receives more than its share of
+ * the domains evicts before the cache as a whole is full.
+ * A verdict never goes stale: the TLD tables of a {@code DomainValidator} are fixed when it is created, and
+ * {@link DomainValidator#updateTLDOverride(DomainValidator.ArrayType, String...)} is refused once an instance exists.
+ * </p>
+ *
+ * @since 1.11.1
+ */
+public final class DomainVerdictCache {
+
+    /** Caches smaller than this use a single segment. */
+    private static final int MIN_SEGMENTED_SIZE = 64;
+
+    /** The number of segments of a larger cache, a power of two. */
+    private static final int SEGMENTS = 16;
+
+    /**
+     * A segment of the cache, an access ordered map that evicts its eldest entry when full.
+     */
+    private static final class Segment extends LinkedHashMap<String, Boolean> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        Segment(final int capacity) {
+            super(16, 0.75f, true); // CHECKSTYLE IGNORE MagicNumber
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Boolean> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    private final int maximumSize;
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param maximumSize The maximum number of domains to remember, at least 1, rounded up to a multiple of the number of segments.
+     * @throws IllegalArgumentException if the maximum size is less than 1.
+     */
+    DomainVerdictCache(final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be at least 1: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        final int count = maximumSize < MIN_SEGMENTED_SIZE ? 1 : SEGMENTS;
+        final int capacity = Math.max(1, (maximumSize + count - 1) / count);
+        segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(capacity);
+        }
+    }
+
+    /**
+     * Forgets all verdicts. The hit and miss counts are kept.
+     */
+    public void clear() {
+        for (final Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Gets the remembered verdict for a domain, counting a hit or a miss.
+     *
+     * @param domain The domain, not null.
+     * @return The verdict or {@code null} if there is none.
+     */
+    Boolean get(final String domain) {
+        final Segment segment = segmentFor(domain);
+        final Boolean verdict;
+        synchronized (segment) {
+            verdict = segment.get(domain);
+        }
+        if (verdict == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return verdict;
+    }
+
+    /**
+     * Gets the number of lookups that found a verdict.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the fraction of lookups that found a verdict.
+     *
+     * @return The hit rate between 0 and 1, 0 if there were no lookups.
+     */
+    public double getHitRate() {
+        final long hitCount = hits.sum();
+        final long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Gets the maximum number of domains remembered, as requested, before it is rounded up to a multiple of the number of segments.
+     *
+     * @return The maximum size.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets the number of lookups that did not find a verdict.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Remembers the verdict for a domain.
+     *
+     * @param domain  The domain, not null.
+     * @param verdict The verdict.
+     */
+    void put(final String domain, final boolean verdict) {
+        final Segment segment = segmentFor(domain);
+        synchronized (segment) {
+            segment.put(domain, Boolean.valueOf(verdict));
+        }
+    }
+
+    private Segment segmentFor(final String domain) {
+        final int hash = domain.hashCode();
+        return segments[(hash ^ hash >>> 16) & segments.length - 1];
+    }
+
+    /**
+     * Gets the number of domains currently remembered.
+     *
+     * @return The number of verdicts.
+     */
+    public int size() {
+        int size = 0;
+        for (final Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return A string representation.
+     */
+    @Override
+    public String toString() {
+        return "DomainVerdictCache[size=" + size() + ", maximumSize=" + maximumSize + ", hits=" + getHitCount() + ", misses=" + getMissCount() + "]";
+    }
+}
@@ -17,8 +17,6 @@
 package org.apache.commons.validator.routines;
 
 import java.io.Serializable;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Perform email validations.
@@ -36,22 +34,15 @@ public class EmailValidator implements Serializable {
 
     private static final long serialVersionUID = 1705927040799295880L;
 
-    private static final String SPECIAL_CHARS = "\\p{Cc}\\(\\)<>@,;:'\\\\\\\"\\.\\[\\]";
-    private static final String VALID_CHARS = "(\\\\[^\\p{Cc}])|[^\\s" + SPECIAL_CHARS + "]";
-    private static final String QUOTED_USER = "(\"(\\\\\"|[^\"\\p{Cc}])*\")";
-    private static final String WORD = "((" + VALID_CHARS + "|')+|" + QUOTED_USER + ")";
-
-    private static final String EMAIL_REGEX = "^(.+)@(\\S+)$";
+    /**
+     * The characters, other than controls and white space, that may only appear in the user name escaped or in a quoted string.
+     */
+    private static final String SPECIAL_CHARS = "()<>@,;:\\\".[]";
 
     /**
      * RFC 5321 section 4.1.3: an IPv6 address literal carries the "IPv6:" tag (case-insensitive), an IPv4 literal is untagged.
      */
-    private static final String IP_DOMAIN_REGEX = "^\\[((?i)IPv6:)?(.*)\\]$";
-    private static final String USER_REGEX = "^" + WORD + "(\\." + WORD + ")*$";
-
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
-    private static final Pattern IP_DOMAIN_PATTERN = Pattern.compile(IP_DOMAIN_REGEX);
-    private static final Pattern USER_PATTERN = Pattern.compile(USER_REGEX);
+    private static final String IPV6_TAG = "IPv6:";
 
     private static final int MAX_USERNAME_LEN = 64;
 
@@ -79,6 +70,143 @@ public class EmailValidator implements Serializable {
      */
     private static final EmailValidator EMAIL_VALIDATOR_WITH_LOCAL_WITH_TLD = new EmailValidator(true, true);
 
+    /**
+     * Tests whether the character may appear unescaped in an atom of the user name: anything but a control, white space or one of
+     * {@link #SPECIAL_CHARS}.
+     */
+    private static boolean isAtomChar(final char ch) {
+        return !isControl(ch) && !isWhitespace(ch) && SPECIAL_CHARS.indexOf(ch) < 0;
+    }
+
+    private static boolean isControl(final char ch) {
+        return Character.getType(ch) == Character.CONTROL;
+    }
+
+    private static boolean hasWhitespace(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (isWhitespace(value.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasLineTerminator(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (isLineTerminator(value.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests whether the character ends a line, which the user name of an address may not contain.
+     */
+    private static boolean isLineTerminator(final char ch) {
+        return ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029';
+    }
+
+    /**
+     * Tests whether the character is white space, which the domain of an address may not contain.
+     */
+    private static boolean isWhitespace(final char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000B' || ch == '\f' || ch == '\r';
+    }
+
+    /**
+     * Tests whether the domain starts with the "IPv6:" tag after its opening bracket, ignoring the case of ASCII letters.
+     */
+    private static boolean isIPv6Tagged(final String domain) {
+        if (domain.length() < IPV6_TAG.length() + 1) {
+            return false;
+        }
+        for (int i = 0; i < IPV6_TAG.length(); i++) {
+            final char ch = domain.charAt(i + 1);
+            final char tag = IPV6_TAG.charAt(i);
+            if (ch != tag && (!Character.isLetter(tag) || ch != (char) (tag ^ 0x20))) { // CHECKSTYLE IGNORE MagicNumber
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Scans an unquoted word of the user name, a run of atom characters and backslash escapes, starting at the given index.
+     *
+     * @return The index after the word or -1 if there is no word.
+     */
+    private static int scanAtom(final String user, final int start) {
+        final int length = user.length();
+        int i = start;
+        while (i < length) {
+            final char ch = user.charAt(i);
+            if (ch == '\\') {
+                // an escape pair, the escaped character can be anything but a control
+                if (i + 1 >= length || isControl(user.charAt(i + 1))) {
+                    break;
+                }
+                i += 2;
+            } else if (isAtomChar(ch)) {
+                i++;
+            } else {
+                break;
+            }
+        }
+        return i > start ? i : -1;
+    }
+
+    /**
+     * Scans the user name: words separated by single dots, where a word is either an atom or a quoted string.
+     * <p>
+     * A quoted string may contain anything but a control, with a quote inside it escaped by a backslash. Since a backslash is also an ordinary
+     * character in a quoted string, {@code \"} may either be an escaped quote or end the string, so every possible end of a quoted string is
+     * followed up. Each index is visited as the start of a word at most once, keeping the scan quadratic in the worst case rather than
+     * exponential.
+     * </p>
+     */
+    private static boolean scanUser(final String user) {
+        final int length = user.length();
+        // wordStarts[i] is true when a word may start at index i
+        final boolean[] wordStarts = new boolean[length + 1];
+        wordStarts[0] = true;
+        for (int start = 0; start < length; start++) {
+            if (!wordStarts[start]) {
+                continue;
+            }
+            if (user.charAt(start) == '"') {
+                for (int i = start + 1; i < length; i++) {
+                    final char ch = user.charAt(i);
+                    if (isControl(ch)) {
+                        break;
+                    }
+                    if (ch == '"') {
+                        // this quote may end the string
+                        if (i + 1 == length) {
+                            return true;
+                        }
+                        if (user.charAt(i + 1) == '.') {
+                            wordStarts[i + 2] = true;
+                        }
+                        // otherwise it must be escaped to stay inside the string
+                        if (user.charAt(i - 1) != '\\') {
+                            break;
+                        }
+                    }
+                }
+            } else {
+                final int end = scanAtom(user, start);
+                if (end == length) {
+                    return true;
+                }
+                if (end > 0 && user.charAt(end) == '.') {
+                    wordStarts[end + 1] = true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Returns the Singleton instance of this validator.
      *
@@ -180,12 +308,18 @@ public class EmailValidator implements Serializable {
         if (email == null || email.endsWith(".")) { // check this first - it's cheap!
             return false;
         }
-        // Check the whole email address structure
-        final Matcher emailMatcher = EMAIL_PATTERN.matcher(email);
-        if (!emailMatcher.matches() || !isValidUser(emailMatcher.group(1)) || !isValidDomain(emailMatcher.group(2))) {
+        // Split at the last @, the user may not contain a line terminator and the domain may not contain white space
+        final int at = email.lastIndexOf('@');
+        final int length = email.length();
+        if (at < 1 || at == length - 1) {
             return false;
         }
-        return true;
+        final String user = email.substring(0, at);
+        final String domain = email.substring(at + 1);
+        if (hasLineTerminator(user) || hasWhitespace(domain)) {
+            return false;
+        }
+        return isValidUser(user) && isValidDomain(domain);
     }
 
     /**
@@ -196,14 +330,13 @@ public class EmailValidator implements Serializable {
      */
     protected boolean isValidDomain(final String domain) {
         // see if domain is an IP address in brackets
-        final Matcher ipDomainMatcher = IP_DOMAIN_PATTERN.matcher(domain);
-
-        if (ipDomainMatcher.matches()) {
+        final int length = domain.length();
+        if (length > 1 && domain.charAt(0) == '[' && domain.charAt(length - 1) == ']' && !hasLineTerminator(domain)) {
             final InetAddressValidator inetAddressValidator = InetAddressValidator.getInstance();
-            if (ipDomainMatcher.group(1) != null) {
-                return inetAddressValidator.isValidInet6Address(ipDomainMatcher.group(2));
+            if (isIPv6Tagged(domain)) {
+                return inetAddressValidator.isValidInet6Address(domain.substring(IPV6_TAG.length() + 1, length - 1));
             }
-            return inetAddressValidator.isValidInet4Address(ipDomainMatcher.group(2));
+            return inetAddressValidator.isValidInet4Address(domain.substring(1, length - 1));
         }
         // Domain is symbolic name
         if (allowTld) {
@@ -224,7 +357,7 @@ public class EmailValidator implements Serializable {
             return false;
         }
 
-        return USER_PATTERN.matcher(user).matches();
+        return scanUser(user);
     }
 
 }
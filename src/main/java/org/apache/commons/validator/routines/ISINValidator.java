@@ -17,7 +17,6 @@
 package org.apache.commons.validator.routines;
 
 import java.io.Serializable;
-import java.util.Arrays;
 import java.util.Locale;
 
 import org.apache.commons.validator.routines.checkdigit.ISINCheckDigit;
@@ -48,9 +47,11 @@ public class ISINValidator implements Serializable {
 
     private static final long serialVersionUID = -5964391439144260936L;
 
-    private static final String ISIN_REGEX = "([A-Z]{2}[A-Z0-9]{9}[0-9])";
+    /** The length of an ISIN. */
+    private static final int ISIN_LENGTH = 12;
 
-    private static final CodeValidator VALIDATOR = new CodeValidator(ISIN_REGEX, 12, ISINCheckDigit.ISIN_CHECK_DIGIT);
+    /** The number of letters in a country code. */
+    private static final int LETTERS = 26;
 
     /** ISIN Code Validator (no countryCode check) */
     private static final ISINValidator ISIN_VALIDATOR_FALSE = new ISINValidator(false);
@@ -423,9 +424,53 @@ public class ISINValidator implements Serializable {
             "ZZ",
     };
 
+    /**
+     * The country codes of {@link #CCODES} and {@link #SPECIALS} as a bit set over the 26 &times; 26 pairs of uppercase letters.
+     */
+    private static final long[] COUNTRY_CODES = new long[(LETTERS * LETTERS + Long.SIZE - 1) / Long.SIZE];
+
     static {
-        Arrays.sort(CCODES); // we cannot assume the codes are sorted
-        Arrays.sort(SPECIALS); // Just in case ...
+        for (final String code : CCODES) {
+            addCountryCode(code);
+        }
+        for (final String code : SPECIALS) {
+            addCountryCode(code);
+        }
+    }
+
+    private static void addCountryCode(final String code) {
+        if (code.length() == 2 && isUpperCase(code.charAt(0)) && isUpperCase(code.charAt(1))) {
+            final int index = countryIndex(code.charAt(0), code.charAt(1));
+            COUNTRY_CODES[index / Long.SIZE] |= 1L << index;
+        }
+    }
+
+    private static int countryIndex(final char first, final char second) {
+        return (first - 'A') * LETTERS + second - 'A';
+    }
+
+    private static boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static boolean isUpperCase(final char ch) {
+        return ch >= 'A' && ch <= 'Z';
+    }
+
+    /**
+     * Tests the structure of an ISIN, two letters, nine letters or digits and a digit, like the pattern {@code [A-Z]{2}[A-Z0-9]{9}[0-9]}.
+     */
+    private static boolean isStructurallyValid(final String code) {
+        if (code.length() != ISIN_LENGTH || !isUpperCase(code.charAt(0)) || !isUpperCase(code.charAt(1)) || !isDigit(code.charAt(ISIN_LENGTH - 1))) {
+            return false;
+        }
+        for (int i = 2; i < ISIN_LENGTH - 1; i++) {
+            final char ch = code.charAt(i);
+            if (!isUpperCase(ch) && !isDigit(ch)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -447,8 +492,12 @@ public class ISINValidator implements Serializable {
         this.checkCountryCode = checkCountryCode;
     }
 
-    private boolean checkCode(final String code) {
-        return Arrays.binarySearch(CCODES, code) >= 0 || Arrays.binarySearch(SPECIALS, code) >= 0;
+    /**
+     * Tests whether two uppercase letters are a country code, without allocating.
+     */
+    private boolean checkCode(final char first, final char second) {
+        final int index = countryIndex(first, second);
+        return (COUNTRY_CODES[index / Long.SIZE] & 1L << index) != 0;
     }
 
     /**
@@ -470,11 +519,14 @@ public class ISINValidator implements Serializable {
      * @return A valid ISIN code if valid, otherwise {@code null}.
      */
     public Object validate(final String code) {
-        final Object validate = VALIDATOR.validate(code);
-        if (validate != null && checkCountryCode) {
-            return checkCode(validate.toString().substring(0, 2)) ? validate : null;
+        if (code == null) {
+            return null;
+        }
+        final String trimmed = code.trim();
+        if (!isStructurallyValid(trimmed) || checkCountryCode && !checkCode(trimmed.charAt(0), trimmed.charAt(1))) {
+            return null;
         }
-        return validate;
+        return ISINCheckDigit.ISIN_CHECK_DIGIT.isValid(trimmed) ? trimmed : null;
     }
 
 }
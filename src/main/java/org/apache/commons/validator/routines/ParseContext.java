@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import java.text.DateFormat;
+import java.text.Format;
+import java.text.ParsePosition;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TimeZone;
+
+/**
+ * Holds the state of parsing one value with an {@link AbstractFormatValidator}: the parse position, the error index and the parsed result.
+ * <p>
+ * A context can be reused for any number of values, which makes it suitable for validating a batch of values in a loop:
+ * </p>
+ * <pre>
+ * ParseContext context = new ParseContext();
+ * for (String value : values) {
+ *     if (validator.isValid(value, pattern, locale, context)) {
+ *         BigDecimal amount = (BigDecimal) context.getValue();
+ *         ...
+ *     } else {
+ *         int offset = context.getErrorIndex();
+ *         ...
+ *     }
+ * }
+ * </pre>
+ * <p>
+ * The {@code Format} used to parse the values is created for the first value and reused for as long as the validator, pattern, locale and time zone stay
+ * the same, so the loop does not create a new {@code Format} per value.
+ * </p>
+ * <p>
+ * <strong>Note</strong>: A context is not thread safe, use one per thread.
+ * </p>
+ *
+ * @since 1.11.1
+ */
+public class ParseContext {
+
+    /** The position of the last parse. */
+    private final ParsePosition position = new ParsePosition(0);
+
+    /** The value of the last parse, {@code null} if it was invalid. */
+    private Object value;
+
+    /** The validator the cached format was created by. */
+    private AbstractFormatValidator formatValidator;
+
+    /** The pattern the cached format was created for. */
+    private String formatPattern;
+
+    /** The locale the cached format was created for. */
+    private Locale formatLocale;
+
+    /** The time zone the cached format was created for. */
+    private TimeZone formatTimeZone;
+
+    /** The cached format. */
+    private Format format;
+
+    /**
+     * Constructs a new instance.
+     */
+    public ParseContext() {
+        // empty
+    }
+
+    /**
+     * Resets the parse state ready to parse a value.
+     *
+     * @return The position to parse with.
+     */
+    ParsePosition begin() {
+        position.setIndex(0);
+        position.setErrorIndex(-1);
+        value = null;
+        return position;
+    }
+
+    /**
+     * Drops the cached {@code Format} and resets the parse state.
+     */
+    public void clear() {
+        begin();
+        formatValidator = null;
+        formatPattern = null;
+        formatLocale = null;
+        formatTimeZone = null;
+        format = null;
+    }
+
+    /**
+     * Gets the index at which the last value was rejected.
+     * <p>
+     * This is the position the {@code Format} reported an error at, the position of the first character left over by a strict parse, or zero for a
+     * {@code null} or blank value. It is {@code -1} if the value was valid, or if it was parsed completely but rejected by the conversion, for example
+     * because it is out of range for the type.
+     * </p>
+     *
+     * @return The error index or {@code -1}.
+     */
+    public int getErrorIndex() {
+        return position.getErrorIndex();
+    }
+
+    /**
+     * Gets a {@code Format} from the validator, reusing the one created for the previous value when the arguments are the same.
+     *
+     * @param validator The validator to create the {@code Format} with.
+     * @param pattern   The pattern or {@code null} to use the default for the {@link Locale}.
+     * @param locale    The locale, system default if null.
+     * @param timeZone  The time zone of a {@code DateFormat}, system default if null.
+     * @return The {@code Format}.
+     */
+    Format getFormat(final AbstractFormatValidator validator, final String pattern, final Locale locale, final TimeZone timeZone) {
+        if (format == null || validator != formatValidator || !Objects.equals(pattern, formatPattern) || !Objects.equals(locale, formatLocale)
+                || !Objects.equals(timeZone, formatTimeZone)) {
+            format = validator.getFormat(pattern, locale);
+            if (timeZone != null && format instanceof DateFormat) {
+                ((DateFormat) format).setTimeZone(timeZone);
+            }
+            formatValidator = validator;
+            formatPattern = pattern;
+            formatLocale = locale;
+            formatTimeZone = timeZone;
+        }
+        return format;
+    }
+
+    /**
+     * Gets the index after the last character parsed.
+     *
+     * @return The parse index.
+     */
+    public int getIndex() {
+        return position.getIndex();
+    }
+
+    /**
+     * Gets the parsed and converted value.
+     *
+     * @return The value or {@code null} if the last value was invalid.
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * Tests whether the last value was valid.
+     *
+     * @return {@code true} if the last value was valid.
+     */
+    public boolean isValid() {
+        return value != null;
+    }
+
+    /**
+     * Records a rejected value.
+     *
+     * @param errorIndex The index at which the value was rejected.
+     */
+    void setError(final int errorIndex) {
+        position.setErrorIndex(errorIndex);
+        value = null;
+    }
+
+    /**
+     * Records the result of a parse.
+     *
+     * @param index The index after the last character parsed.
+     * @param value The parsed and converted value or {@code null} if it was rejected.
+     */
+    void setValue(final int index, final Object value) {
+        position.setIndex(index);
+        this.value = value;
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return A string representation.
+     */
+    @Override
+    public String toString() {
+        return "ParseContext[index=" + getIndex() + ", errorIndex=" + getErrorIndex() + ", value=" + value + "]";
+    }
+}
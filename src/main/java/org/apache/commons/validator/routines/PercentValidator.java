@@ -92,27 +92,31 @@ public class PercentValidator extends BigDecimalValidator {
      *
      * @param value The value to be parsed.
      * @param formatter The Format to parse the value with.
+     * @param context The context to parse with, reused between values.
      * @return The parsed value if valid or {@code null} if invalid.
      */
     @Override
-    protected Object parse(final String value, final Format formatter) {
+    protected Object parseValue(final String value, final Format formatter, final ParseContext context) {
 
         // Initial parse of the value
-        BigDecimal parsedValue = (BigDecimal) super.parse(value, formatter);
+        BigDecimal parsedValue = (BigDecimal) super.parseValue(value, formatter, context);
         if (parsedValue != null || !(formatter instanceof DecimalFormat)) {
             return parsedValue;
         }
 
-        // Re-parse using a pattern without the percent symbol and its separator
+        // Re-parse using a pattern without the percent symbol and its separator,
+        // leaving the formatter, which the context may reuse, unchanged
         final DecimalFormat decimalFormat = (DecimalFormat) formatter;
         final String pattern = decimalFormat.toPattern();
         if (pattern.indexOf(PERCENT_SYMBOL) >= 0) {
-            decimalFormat.applyPattern(removeSymbol(pattern, PERCENT_SYMBOL));
-            parsedValue = (BigDecimal) super.parse(value, decimalFormat);
+            final DecimalFormat withoutSymbol = (DecimalFormat) decimalFormat.clone();
+            withoutSymbol.applyPattern(removeSymbol(pattern, PERCENT_SYMBOL));
+            parsedValue = (BigDecimal) super.parseValue(value, withoutSymbol, context);
 
             // If parsed OK, divide by 100 to get percent
             if (parsedValue != null) {
                 parsedValue = parsedValue.multiply(POINT_ZERO_ONE);
+                context.setValue(context.getIndex(), parsedValue);
             }
 
         }
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.util;
+
+import java.beans.IndexedPropertyDescriptor;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.commons.beanutils.PropertyUtils;
+
+/**
+ * Reads a bean property path, such as {@code address.lines[1]}, through {@code MethodHandle}s compiled once per bean class and property.
+ * <p>
+ * The properties of a class are those {@link PropertyUtils#getPropertyDescriptors(Class)} reports, so the introspectors and suppressions installed in
+ * BeanUtils apply, such as the ones hiding the {@code class} and {@code declaringClass} properties. Each segment of a path is read with a handle on the
+ * public read method, or indexed read method, of the class of the value it reaches, and its index is applied when it is read, so the compiled accessors
+ * are bounded by the number of properties. Anything the compiled accessors do not cover is read with {@link PropertyUtils#getProperty(Object, String)}
+ * from the bean and the whole path, so the results and exceptions are those of BeanUtils: mapped segments, {@link Map} and {@link DynaBean} values, read
+ * methods that are not public, unknown or suppressed properties, {@code null} values inside the path and indexes out of bounds.
+ * </p>
+ */
+final class PropertyAccessor {
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType INDEXED_GETTER = MethodType.methodType(Object.class, Object.class, int.class);
+
+    /** Returned by a read that the compiled accessors do not cover. */
+    private static final Object UNREAD = new Object();
+
+    /** The accessors of each bean class by property name. */
+    private static final ClassValue<Map<String, PropertyAccessor>> ACCESSORS = new ClassValue<Map<String, PropertyAccessor>>() {
+        @Override
+        protected Map<String, PropertyAccessor> computeValue(final Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    /**
+     * Compiles the accessors of the properties of a bean class.
+     */
+    private static Map<String, PropertyAccessor> compile(final Class<?> type) {
+        if (Map.class.isAssignableFrom(type) || DynaBean.class.isAssignableFrom(type)) {
+            return Collections.emptyMap();
+        }
+        final Map<String, PropertyAccessor> accessors = new HashMap<>();
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        for (final PropertyDescriptor descriptor : PropertyUtils.getPropertyDescriptors(type)) {
+            final Method read = descriptor.getReadMethod();
+            final Method indexedRead = descriptor instanceof IndexedPropertyDescriptor ? ((IndexedPropertyDescriptor) descriptor).getIndexedReadMethod()
+                    : null;
+            if (read == null && indexedRead == null) {
+                continue;
+            }
+            try {
+                accessors.put(descriptor.getName(), new PropertyAccessor(read == null ? null : lookup.unreflect(read).asType(GETTER),
+                        indexedRead == null ? null : lookup.unreflect(indexedRead).asType(INDEXED_GETTER)));
+            } catch (final IllegalAccessException e) {
+                // read with BeanUtils
+            }
+        }
+        return accessors;
+    }
+
+    /**
+     * Reads a property path of a bean, as {@link PropertyUtils#getProperty(Object, String)} does.
+     *
+     * @param bean The bean.
+     * @param path The property path.
+     * @return The value of the property.
+     * @throws IllegalAccessException    if the read method is not accessible.
+     * @throws InvocationTargetException if the read method throws an exception.
+     * @throws NoSuchMethodException     if the bean has no such property.
+     */
+    static Object getProperty(final Object bean, final String path) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        if (bean == null || path == null) {
+            return PropertyUtils.getProperty(bean, path);
+        }
+        Object value = bean;
+        int start = 0;
+        while (true) {
+            final int dot = path.indexOf('.', start);
+            value = readSegment(value, path, start, dot < 0 ? path.length() : dot);
+            if (value == UNREAD) {
+                return PropertyUtils.getProperty(bean, path);
+            }
+            if (dot < 0) {
+                return value;
+            }
+            if (value == null) {
+                return PropertyUtils.getProperty(bean, path);
+            }
+            start = dot + 1;
+        }
+    }
+
+    /**
+     * Reads a segment of a path, such as {@code lines[1]}, from a value.
+     *
+     * @param value The value to read the segment from.
+     * @param path  The whole path.
+     * @param start The start of the segment in the path.
+     * @param end   The end of the segment in the path.
+     * @return The value of the segment, or {@link #UNREAD} if it is read with BeanUtils.
+     * @throws InvocationTargetException if a read method throws an exception, other than an {@code IndexOutOfBoundsException} thrown by an indexed read
+     *                                   method, which is thrown as is.
+     */
+    private static Object readSegment(final Object value, final String path, final int start, final int end) throws InvocationTargetException {
+        final int open = path.indexOf('[', start);
+        final int nameEnd = open < 0 || open > end ? end : open;
+        if (nameEnd == start) {
+            return UNREAD;
+        }
+        int index = -1;
+        if (nameEnd < end) {
+            if (path.charAt(end - 1) != ']' || path.indexOf(']', nameEnd) != end - 1) {
+                return UNREAD;
+            }
+            try {
+                index = Integer.parseInt(path.substring(nameEnd + 1, end - 1));
+            } catch (final NumberFormatException e) {
+                return UNREAD;
+            }
+            if (index < 0) {
+                return UNREAD;
+            }
+        }
+        final PropertyAccessor accessor = ACCESSORS.get(value.getClass()).get(path.substring(start, nameEnd));
+        return accessor == null ? UNREAD : accessor.read(value, index);
+    }
+
+    /** The handle on the read method, or {@code null}. */
+    private final MethodHandle getter;
+
+    /** The handle on the indexed read method, which takes the index, or {@code null}. */
+    private final MethodHandle indexedGetter;
+
+    private PropertyAccessor(final MethodHandle getter, final MethodHandle indexedGetter) {
+        this.getter = getter;
+        this.indexedGetter = indexedGetter;
+    }
+
+    /**
+     * Reads the property from a value.
+     *
+     * @param value The value to read the property from.
+     * @param index The index to apply or -1.
+     * @return The value of the property, or {@link #UNREAD} if it is read with BeanUtils.
+     * @throws InvocationTargetException if a read method throws an exception, other than an {@code IndexOutOfBoundsException} thrown by an indexed read
+     *                                   method, which is thrown as is.
+     */
+    private Object read(final Object value, final int index) throws InvocationTargetException {
+        final boolean indexed = index >= 0 && indexedGetter != null;
+        if (!indexed && getter == null) {
+            return UNREAD;
+        }
+        Object result;
+        try {
+            result = indexed ? (Object) indexedGetter.invokeExact(value, index) : (Object) getter.invokeExact(value);
+        } catch (final WrongMethodTypeException e) {
+            // the handle could not be adapted, let BeanUtils read it
+            return UNREAD;
+        } catch (final Error e) {
+            throw e;
+        } catch (final Throwable e) { // NOPMD thrown by the read method, the receiver is always of the class the handle was compiled for
+            if (indexed && e instanceof IndexOutOfBoundsException) {
+                // as BeanUtils does for an indexed read method
+                throw (IndexOutOfBoundsException) e;
+            }
+            throw new InvocationTargetException(e);
+        }
+        if (index < 0 || indexed) {
+            return result;
+        }
+        if (result instanceof List && index < ((List<?>) result).size()) {
+            return ((List<?>) result).get(index);
+        }
+        if (result != null && result.getClass().isArray() && index < Array.getLength(result)) {
+            return Array.get(result, index);
+        }
+        return UNREAD;
+    }
+}
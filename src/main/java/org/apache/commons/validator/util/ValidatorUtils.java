@@ -16,6 +16,7 @@
  */
 package org.apache.commons.validator.util;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -100,6 +101,26 @@ public class ValidatorUtils {
         return results;
     }
 
+    /**
+     * Gets the value of a bean property, as
+     * {@link PropertyUtils#getProperty(Object, String)} does. The read
+     * methods of simple, nested and indexed properties are compiled into
+     * {@code MethodHandle}s once per bean class and property; mapped
+     * properties, {@link Map} beans and DynaBeans are read with BeanUtils.
+     *
+     * @param bean The bean object.
+     * @param property The name of the property to access, which may be nested or indexed.
+     * @return The value of the property.
+     * @throws IllegalAccessException if the read method is not accessible.
+     * @throws InvocationTargetException if the read method throws an exception.
+     * @throws NoSuchMethodException if the bean has no such property.
+     * @since 1.11.1
+     */
+    public static Object getProperty(final Object bean, final String property)
+            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        return PropertyAccessor.getProperty(bean, property);
+    }
+
     /**
      * Convenience method for getting a value from a bean property as a
      * {@link String}.  If the property is a {@code String[]} or
@@ -116,7 +137,7 @@ public class ValidatorUtils {
         Object value = null;
 
         try {
-            value = PropertyUtils.getProperty(bean, property);
+            value = getProperty(bean, property);
 
         } catch (final ReflectiveOperationException e) {
             LOG.error(e.getMessage(), e);
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that validation methods that block do not block each other, on virtual threads when the JRE has them.
+ * <p>
+ * Every validation waits until all of them are inside the validation method. If the validate path held a monitor around the validation method, or
+ * pinned the carrier thread of a virtual thread while it waits, the validations could not all get there and would time out. Running the test with
+ * {@code -Djdk.tracePinnedThreads=full} on Java 21 also prints the stack of any virtual thread that is pinned.
+ * </p>
+ */
+class ConcurrentValidationTest {
+
+    private static volatile CountDownLatch latch;
+
+    public static boolean isReachedByAll(final Object bean, final Field field) throws InterruptedException {
+        latch.countDown();
+        return latch.await(30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Creates an executor that runs each task in a virtual thread, or in a new platform thread before Java 21.
+     */
+    private static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    private static ValidatorResources resources() {
+        final ValidatorAction action = new ValidatorAction();
+        action.setName("reached");
+        action.setClassName(ConcurrentValidationTest.class.getName());
+        action.setMethod("isReachedByAll");
+        action.setMethodParams(Validator.BEAN_PARAM + "," + Validator.FIELD_PARAM);
+        final ValidatorResources resources = new ValidatorResources();
+        resources.addValidatorAction(action);
+        final Field field = new Field();
+        field.setProperty("letter");
+        field.setDepends("reached");
+        final Form form = new Form();
+        form.setName("form");
+        form.addField(field);
+        final FormSet formSet = new FormSet();
+        formSet.addForm(form);
+        resources.addFormSet(formSet);
+        resources.process();
+        return resources;
+    }
+
+    @Test
+    void testBlockingValidationMethods() throws Exception {
+        final ValidatorResources resources = resources();
+        final int count = Runtime.getRuntime().availableProcessors() * 4 + 16;
+        latch = new CountDownLatch(count);
+        final ExecutorService executor = newExecutor();
+        try {
+            final List<Future<ValidatorResults>> results = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                final boolean compiled = i % 2 == 0;
+                results.add(executor.submit(() -> {
+                    final Validator validator = new Validator(resources, "form");
+                    validator.setParameter(Validator.BEAN_PARAM, new ValidatorTest.TestBean());
+                    if (compiled) {
+                        return validator.validate();
+                    }
+                    // the uncompiled validation of the form and its fields
+                    validator.setParameter(Validator.VALIDATOR_PARAM, validator);
+                    return resources.getForm(Locale.getDefault(), "form").validate(validator.getParameters(), resources.getValidatorActions(), 0);
+                }));
+            }
+            for (final Future<ValidatorResults> result : results) {
+                assertTrue(result.get(60, TimeUnit.SECONDS).getValidatorResult("letter").isValid("reached"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -17,8 +17,16 @@
 package org.apache.commons.validator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.SerializationUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -163,6 +171,46 @@ class FieldTest {
 
     }
 
+    /**
+     * test the variables and messages frozen by processing
+     */
+    @Test
+    @SuppressWarnings("deprecation") // reads hVars and hMsgs
+    void testFrozenVarsAndMsgs() {
+        field.setProperty("name");
+        field.addVar("min", "${min}", null);
+        final Msg msg = new Msg();
+        msg.setName("required");
+        msg.setKey("name.required");
+        field.addMsg(msg);
+        field.process(Collections.singletonMap("min", "1"), Collections.emptyMap());
+
+        assertEquals("1", field.getVarValue("min"));
+        assertEquals("name.required", field.getMsg("required"));
+        assertThrows(UnsupportedOperationException.class, () -> field.getVars().clear());
+        // the entries are held once, in the frozen copies
+        assertTrue(field.hVars.isEmpty());
+        assertTrue(field.hMsgs.isEmpty());
+
+        // a clone gets its own copies of the variables
+        final Field clone = (Field) field.clone();
+        assertNotSame(field.getVar("min"), clone.getVar("min"));
+        assertEquals("1", clone.getVarValue("min"));
+        assertTrue(clone.hVars.isEmpty());
+
+        // a copy keeps the variables and messages
+        final Field copy = SerializationUtils.roundtrip(field);
+        assertEquals("1", copy.getVarValue("min"));
+        assertEquals("name.required", copy.getMsg("required"));
+
+        // adding after processing is still seen
+        field.addVar("max", "9", null);
+        assertEquals("9", field.getVarValue("max"));
+        assertEquals(2, field.getVars().size());
+        assertEquals(2, field.hVars.size());
+        assertNull(clone.getVar("max"));
+    }
+
     /**
      * test Field with a 'default' argument overridden without positions specified.
      */
@@ -280,4 +328,42 @@ class FieldTest {
 
     }
 
+    /**
+     * Test that constants and variables are replaced as documented by {@link Field#process(Map, Map)}.
+     */
+    @Test
+    void testProcessConstants() {
+        final Map<String, String> globalConstants = new HashMap<>();
+        globalConstants.put("prefix", "global");
+        globalConstants.put("suffix", "end");
+        final Map<String, String> constants = Collections.singletonMap("prefix", "local.${suffix}");
+        field.setProperty("${prefix}.name");
+        field.addVar("min", "${suffix}", null);
+        final Msg msg = new Msg();
+        msg.setName("required");
+        msg.setKey("${prefix}.${var:min}");
+        field.addMsg(msg);
+        final Arg arg = new Arg();
+        arg.setKey("${prefix}.${var:min}.${unknown}");
+        field.addArg(arg);
+        field.process(globalConstants, constants);
+
+        assertEquals("local.end.name", field.getProperty());
+        assertEquals("end", field.getVarValue("min"));
+        assertEquals("local.end.${var:min}", field.getMsg("required"));
+        assertEquals("local.end.end.${unknown}", field.getArg(0).getKey());
+    }
+
+    @Test
+    void testReplace() {
+        final Map<String, String> values = new HashMap<>();
+        values.put("a", "1");
+        values.put("b", "${a}");
+        assertNull(Field.replace(null, values::get));
+        assertEquals("plain", Field.replace("plain", values::get));
+        assertEquals("1-${a}-${c}-1", Field.replace("${a}-${b}-${c}-${a}", values::get));
+        assertEquals("${a1", Field.replace("${a${a}", values::get));
+        assertEquals("1${", Field.replace("${a}${", values::get));
+    }
+
 }
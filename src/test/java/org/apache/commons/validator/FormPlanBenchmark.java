@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+
+import org.apache.commons.validator.util.ValidatorUtils;
+
+/**
+ * Times the validation of an indexed field of 10 to 100,000 items, to show that it grows linearly with the number of items.
+ * <p>
+ * This is not a unit test and is not run by the build; run its {@code main} method with the test class path.
+ * </p>
+ */
+public final class FormPlanBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    public static boolean isNotFail(final Object bean, final Field field) {
+        return !"fail".equals(ValidatorUtils.getValueAsString(bean, field.getProperty()));
+    }
+
+    private static ValidatorAction action(final String name, final String depends) {
+        final ValidatorAction action = new ValidatorAction();
+        action.setName(name);
+        action.setClassName(FormPlanBenchmark.class.getName());
+        action.setMethod("isNotFail");
+        action.setMethodParams(Validator.BEAN_PARAM + "," + Validator.FIELD_PARAM);
+        if (depends != null) {
+            action.setDepends(depends);
+        }
+        return action;
+    }
+
+    public static void main(final String[] args) throws ValidatorException {
+        final ValidatorResources resources = new ValidatorResources();
+        resources.addValidatorAction(action("x", null));
+        resources.addValidatorAction(action("y", null));
+        resources.addValidatorAction(action("a", "x"));
+        resources.addValidatorAction(action("b", "x,y"));
+        final Field field = new Field();
+        field.setIndexedListProperty("lines");
+        field.setProperty("letter");
+        field.setDepends("a,b");
+        final Form form = new Form();
+        form.setName("form");
+        form.addField(field);
+        final FormSet formSet = new FormSet();
+        formSet.addForm(form);
+        resources.addFormSet(formSet);
+        resources.process();
+
+        for (int size = 10; size <= 100_000; size *= 10) {
+            final FormPlanTest.Order order = new FormPlanTest.Order();
+            for (int i = 0; i < size; i++) {
+                final ValidatorTest.TestBean line = new ValidatorTest.TestBean();
+                line.setLetter("L" + i);
+                order.getLines().add(line);
+            }
+            final Validator validator = new Validator(resources, "form");
+            validator.setParameter(Validator.BEAN_PARAM, order);
+            validator.setOnlyReturnErrors(true);
+            long best = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                final long start = System.nanoTime();
+                validator.validate();
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            System.out.printf("%,9d items: %,12d ns, %,6d ns per item%n", size, best, best / size);
+        }
+    }
+
+    private FormPlanBenchmark() {
+        // main only
+    }
+}
@@ -0,0 +1,392 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.validator.util.ValidatorUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link FormPlan} against the uncompiled validation of {@link Form}.
+ */
+class FormPlanTest {
+
+    public static class Order extends ValidatorTest.TestBean {
+
+        private final List<ValidatorTest.TestBean> lines = new ArrayList<>();
+
+        /** The number of times {@link #getLines()} was called. */
+        private int linesRead;
+
+        public List<ValidatorTest.TestBean> getLines() {
+            linesRead++;
+            return lines;
+        }
+    }
+
+    /** The values passed to {@link #isNotFail(Object, Field)}, in order. */
+    private static final List<String> CALLS = Collections.synchronizedList(new ArrayList<>());
+
+    public static boolean isNotFail(final Object bean, final Field field) {
+        final String value = ValidatorUtils.getValueAsString(bean, field.getProperty());
+        CALLS.add(field.getKey() + "=" + value);
+        return !"fail".equals(value);
+    }
+
+    private static ValidatorAction action(final String name, final String depends) {
+        final ValidatorAction action = new ValidatorAction();
+        action.setName(name);
+        action.setClassName(FormPlanTest.class.getName());
+        action.setMethod("isNotFail");
+        action.setMethodParams(Validator.BEAN_PARAM + "," + Validator.FIELD_PARAM);
+        if (depends != null) {
+            action.setDepends(depends);
+        }
+        return action;
+    }
+
+    private static Field field(final String property, final String depends, final int page) {
+        final Field field = new Field();
+        field.setProperty(property);
+        field.setDepends(depends);
+        field.setPage(page);
+        return field;
+    }
+
+    private static Field indexedField(final String indexedListProperty, final String property, final String depends) {
+        final Field field = field(property, depends, 0);
+        field.setIndexedListProperty(indexedListProperty);
+        return field;
+    }
+
+    private static Order order(final int size) {
+        final Order order = new Order();
+        for (int i = 0; i < size; i++) {
+            final ValidatorTest.TestBean line = new ValidatorTest.TestBean();
+            line.setLetter("L" + i);
+            line.setDate("D" + i);
+            order.lines.add(line);
+        }
+        return order;
+    }
+
+    private static ValidatorResources resources(final Field... fields) {
+        final ValidatorResources resources = new ValidatorResources();
+        resources.addValidatorAction(action("x", null));
+        resources.addValidatorAction(action("y", null));
+        resources.addValidatorAction(action("a", "x"));
+        resources.addValidatorAction(action("b", "x,y"));
+        final Form form = new Form();
+        form.setName("form");
+        for (final Field field : fields) {
+            form.addField(field);
+        }
+        final FormSet formSet = new FormSet();
+        formSet.addForm(form);
+        resources.addFormSet(formSet);
+        resources.process();
+        return resources;
+    }
+
+    /**
+     * Validates the bean with the compiled plan and with {@link Form#validate(java.util.Map, java.util.Map, int, String)}, checking that both make the same
+     * calls and return the same results.
+     */
+    private static ValidatorResults validateBoth(final ValidatorResources resources, final Object bean, final int page, final boolean onlyReturnErrors)
+            throws ValidatorException {
+        final Validator validator = new Validator(resources, "form");
+        validator.setParameter(Validator.BEAN_PARAM, bean);
+        validator.setPage(page);
+        validator.setOnlyReturnErrors(onlyReturnErrors);
+        CALLS.clear();
+        final ValidatorResults planned = validator.validate();
+        final String[] plannedCalls = CALLS.toArray(new String[0]);
+        CALLS.clear();
+        final Form form = resources.getForm(Locale.getDefault(), "form");
+        final ValidatorResults unplanned = form.validate(validator.getParameters(), resources.getValidatorActions(), page);
+        final String[] unplannedCalls = CALLS.toArray(new String[0]);
+        assertEquals(unplanned.getPropertyNames(), planned.getPropertyNames());
+        for (final String property : planned.getPropertyNames()) {
+            final ValidatorResult plannedResult = planned.getValidatorResult(property);
+            final ValidatorResult unplannedResult = unplanned.getValidatorResult(property);
+            for (final String name : Arrays.asList("a", "b", "x", "y")) {
+                assertEquals(unplannedResult.containsAction(name), plannedResult.containsAction(name), property + " " + name);
+                assertEquals(unplannedResult.isValid(name), plannedResult.isValid(name), property + " " + name);
+            }
+        }
+        if (!onlyReturnErrors) {
+            // an action that passed is only run again by the uncompiled validation when its result was not kept
+            assertArrayEquals(unplannedCalls, plannedCalls);
+        }
+        return planned;
+    }
+
+    @AfterEach
+    void tearDown() {
+        CALLS.clear();
+    }
+
+    @Test
+    void testCompileActions() {
+        final ValidatorResources resources = resources();
+        assertArrayEquals(new String[] { "x", "a", "y", "b" }, names(field("p", "a,b", 0).compileActions(resources.getValidatorActions())));
+        assertArrayEquals(new String[] { "x", "y", "b" }, names(field("p", "b,x,b", 0).compileActions(resources.getValidatorActions())));
+        assertNull(field("p", "a,missing", 0).compileActions(resources.getValidatorActions()));
+        resources.addValidatorAction(action("c", "d"));
+        resources.addValidatorAction(action("d", "c"));
+        assertNull(field("p", "c", 0).compileActions(resources.getValidatorActions()));
+    }
+
+    @Test
+    void testCycle() throws ValidatorException {
+        final ValidatorResources resources = resources(field("letter", "c", 0), field("date", "x,c", 0));
+        resources.addValidatorAction(action("c", "b"));
+        resources.addValidatorAction(action("d", "c"));
+        resources.getValidatorAction("b").setDepends("x,y,d");
+        resources.process();
+        final Validator validator = new Validator(resources, "form");
+        final ValidatorTest.TestBean bean = new ValidatorTest.TestBean();
+        validator.setParameter(Validator.BEAN_PARAM, bean);
+        final ValidatorException e = assertThrows(ValidatorException.class, validator::validate);
+        assertEquals("The dependencies of ValidatorAction d form a cycle for field letter", e.getMessage());
+        // the cycle is not reached when an action before it fails
+        bean.setLetter("fail");
+        bean.setDate("fail");
+        validator.setFieldName("date");
+        assertFalse(validator.validate().getValidatorResult("date").isValid("x"));
+    }
+
+    @Test
+    void testDependencies() throws ValidatorException {
+        final ValidatorResources resources = resources(field("letter", "a,b", 0), field("date", "y", 0));
+        final ValidatorTest.TestBean bean = new ValidatorTest.TestBean();
+        bean.setLetter("L");
+        bean.setDate("D");
+        validateBoth(resources, bean, 0, false);
+        validateBoth(resources, bean, 0, true);
+        bean.setLetter("fail");
+        final ValidatorResults results = validateBoth(resources, bean, 0, false);
+        assertFalse(results.getValidatorResult("letter").isValid("x"));
+        assertFalse(results.getValidatorResult("letter").containsAction("a"));
+        assertTrue(results.getValidatorResult("date").isValid("y"));
+        validateBoth(resources, bean, 0, true);
+    }
+
+    @Test
+    void testExecutor() throws ValidatorException {
+        final ValidatorResources resources = resources(field("letter", "a,b", 0), indexedField("lines", "letter", "b"), field("date", "y", 1));
+        final Order order = order(100);
+        order.getLines().get(42).setLetter("fail");
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (final int page : new int[] { 0, 1 }) {
+                final Validator validator = new Validator(resources, "form");
+                validator.setParameter(Validator.BEAN_PARAM, order);
+                validator.setPage(page);
+                final ValidatorResults serial = validator.validate();
+                final List<String> serialCalls = new ArrayList<>(CALLS);
+                CALLS.clear();
+                validator.setExecutor(executor);
+                final ValidatorResults parallel = validator.validate();
+                assertEquals(serial.getPropertyNames(), parallel.getPropertyNames());
+                for (final String property : serial.getPropertyNames()) {
+                    for (final String name : Arrays.asList("a", "b", "x", "y")) {
+                        assertEquals(serial.getValidatorResult(property).isValid(name), parallel.getValidatorResult(property).isValid(name));
+                    }
+                }
+                Collections.sort(serialCalls);
+                final List<String> parallelCalls = new ArrayList<>(CALLS);
+                Collections.sort(parallelCalls);
+                assertEquals(serialCalls, parallelCalls);
+                CALLS.clear();
+            }
+            // an exception of a field is thrown by validate()
+            final Validator validator = new Validator(resources(field("letter", "x", 0), field("date", "missing", 0)), "form");
+            validator.setParameter(Validator.BEAN_PARAM, new ValidatorTest.TestBean());
+            validator.setExecutor(executor);
+            assertEquals("No ValidatorAction named missing found for field date", assertThrows(ValidatorException.class, validator::validate).getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testIncremental() throws ValidatorException {
+        final ValidatorResources resources = resources(field("letter", "a", 0), field("date", "x", 1), indexedField("lines", "letter", "x"));
+        final Order order = order(2);
+        order.setLetter("fail");
+        order.setDate("D");
+        final Validator validator = new Validator(resources, "form");
+        validator.setIncremental(true);
+        validator.setParameter(Validator.BEAN_PARAM, order);
+        CALLS.clear();
+        assertFalse(validator.validate().getValidatorResult("letter").isValid("a"));
+        assertEquals(Arrays.asList("letter=fail", "lines[0].letter=L0", "lines[1].letter=L1"), CALLS);
+        // the next page only validates the fields that it adds and the indexed field
+        CALLS.clear();
+        validator.setPage(1);
+        ValidatorResults results = validator.validate();
+        assertEquals(Arrays.asList("date=D", "lines[0].letter=L0", "lines[1].letter=L1"), CALLS);
+        assertFalse(results.getValidatorResult("letter").isValid("a"));
+        assertEquals(new HashSet<>(Arrays.asList("letter", "date", "lines[].letter")), results.getPropertyNames());
+        // changing the results leaves those kept for the next validation alone
+        results.getValidatorResult("letter").add("a", true);
+        results.getValidatorResult("date").getActionMap().get("x").setValid(false);
+        results = validator.validate();
+        assertFalse(results.getValidatorResult("letter").isValid("a"));
+        assertTrue(results.getValidatorResult("date").isValid("x"));
+        // a changed value is validated again
+        CALLS.clear();
+        order.setLetter("L");
+        results = validator.validate();
+        assertEquals(Arrays.asList("letter=L", "letter=L", "lines[0].letter=L0", "lines[1].letter=L1"), CALLS);
+        assertTrue(results.getValidatorResult("letter").isValid("a"));
+        // another bean is validated again
+        CALLS.clear();
+        final Order other = order(0);
+        other.setLetter("L");
+        other.setDate("D");
+        validator.setParameter(Validator.BEAN_PARAM, other);
+        validator.validate();
+        assertEquals(Arrays.asList("letter=L", "letter=L", "date=D"), CALLS);
+        // as are all fields once it is turned off
+        CALLS.clear();
+        validator.setIncremental(false);
+        validator.validate();
+        assertEquals(Arrays.asList("letter=L", "letter=L", "date=D"), CALLS);
+    }
+
+    @Test
+    void testIndexed() throws ValidatorException {
+        final ValidatorResources resources = resources(indexedField("lines", "letter", "a,b"), indexedField("lines", "date", "y"));
+        final Order order = order(3);
+        ValidatorResults results = validateBoth(resources, order, 0, false);
+        assertTrue(results.getValidatorResult("lines[].letter").isValid("b"));
+        assertEquals("lines[0].letter=L0", CALLS.get(3));
+        assertEquals("lines[1].letter=L1", CALLS.get(4));
+        assertEquals("lines[2].date=D2", CALLS.get(CALLS.size() - 1));
+        // validation stops at the first item that fails
+        order.getLines().get(1).setLetter("fail");
+        results = validateBoth(resources, order, 0, false);
+        assertFalse(results.getValidatorResult("lines[].letter").isValid("x"));
+        assertEquals("lines[1].letter=fail", CALLS.get(CALLS.size() - 4));
+        assertTrue(validateBoth(resources, new Order(), 0, false).isEmpty());
+    }
+
+    @Test
+    void testIndexedListReadOnce() throws ValidatorException {
+        final ValidatorResources resources = resources(indexedField("lines", "letter", "a,b"), indexedField("lines", "date", "y"));
+        for (final int size : new int[] { 0, 1, 10, 1_000 }) {
+            final Order order = order(size);
+            final Validator validator = new Validator(resources, "form");
+            validator.setParameter(Validator.BEAN_PARAM, order);
+            CALLS.clear();
+            validator.validate();
+            assertEquals(5 * size, CALLS.size());
+            // each indexed field reads the list once, not once per item and action
+            assertEquals(2, order.linesRead, size + " items");
+        }
+    }
+
+    @Test
+    void testMinify() {
+        final StringBuilder script = new StringBuilder();
+        FormPlan.minify("  var t = `a\n    b  \n\n  // c\n`;  \n  var s = 'd\\\n    e';\n  var u = \"it's\"; // don't\n    f();\n", script);
+        assertEquals("var t = `a\n    b  \n\n  // c\n`;\nvar s = 'd\\\n    e';\nvar u = \"it's\"; // don't\nf();\n", script.toString());
+    }
+
+    @Test
+    void testMissingAction() {
+        final ValidatorResources resources = resources(field("letter", "a,missing", 0));
+        assertNotNull(resources.getFormPlan(resources.getForm(Locale.getDefault(), "form")));
+        final Validator validator = new Validator(resources, "form");
+        validator.setParameter(Validator.BEAN_PARAM, new ValidatorTest.TestBean());
+        final ValidatorException e = assertThrows(ValidatorException.class, validator::validate);
+        assertEquals("No ValidatorAction named missing found for field letter", e.getMessage());
+    }
+
+    @Test
+    void testPages() throws ValidatorException {
+        final ValidatorResources resources = resources(field("letter", "x", 0), field("date", "x", 1));
+        final ValidatorTest.TestBean bean = new ValidatorTest.TestBean();
+        assertEquals(1, validateBoth(resources, bean, 0, false).getPropertyNames().size());
+        assertEquals(2, validateBoth(resources, bean, 1, false).getPropertyNames().size());
+    }
+
+    @Test
+    void testPlansDiscarded() {
+        final ValidatorResources resources = resources(field("letter", "x", 0));
+        final Form form = resources.getForm(Locale.getDefault(), "form");
+        assertNotNull(resources.getFormPlan(form));
+        resources.addValidatorAction(action("z", null));
+        assertNull(resources.getFormPlan(form));
+        resources.process();
+        assertNotNull(resources.getFormPlan(form));
+    }
+
+    @Test
+    void testResultsReused() throws ValidatorException {
+        final ValidatorResources resources = resources(field("letter", "a,b", 0), indexedField("lines", "letter", "b"));
+        final Order order = order(10);
+        final Validator validator = new Validator(resources, "form");
+        validator.setParameter(Validator.BEAN_PARAM, order);
+        validator.setOnlyReturnErrors(true);
+        final ValidatorResults results = new ValidatorResults();
+        assertSame(results, validator.validate(results));
+        assertTrue(results.isEmpty());
+        order.getLines().get(3).setLetter("fail");
+        validator.validate(results);
+        assertEquals(Collections.singleton("lines[].letter"), results.getPropertyNames());
+        assertFalse(results.getValidatorResult("lines[].letter").isValid("x"));
+        // the results of the previous validation are cleared
+        order.getLines().get(3).setLetter("L3");
+        assertTrue(validator.validate(results).isEmpty());
+        validator.setOnlyReturnErrors(false);
+        assertEquals(validator.validate().getPropertyNames(), validator.validate(results).getPropertyNames());
+        assertTrue(results.getValidatorResult("lines[].letter").isValid("b"));
+    }
+
+    @Test
+    void testUnknownField() {
+        final ValidatorResources resources = resources(field("letter", "x", 0));
+        final Validator validator = new Validator(resources, "form", "nofield");
+        final ValidatorException e = assertThrows(ValidatorException.class, validator::validate);
+        assertEquals("Unknown field nofield in form form", e.getMessage());
+    }
+
+    private static String[] names(final ValidatorAction[] actions) {
+        return Arrays.stream(actions).map(ValidatorAction::getName).toArray(String[]::new);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ParameterValues} and the parameter binding of {@link ValidatorAction}.
+ */
+class ParameterValuesTest {
+
+    private static void assertBound(final ValidatorAction action) throws ValidatorException {
+        final Field field = new Field();
+        field.setKey("key");
+        final Map<String, Object> params = new HashMap<>();
+        params.put(Validator.VALIDATOR_PARAM, new Validator(new ValidatorResources()));
+        params.put(Validator.BEAN_PARAM, "bean");
+        params.put(Validator.FIELD_PARAM, field);
+        params.put(Validator.LOCALE_PARAM, Locale.CANADA);
+        params.put(String.class.getName(), "custom");
+        final ValidatorResults results = new ValidatorResults();
+        assertTrue(action.executeValidationMethod(field, new ParameterValues(params), results, null, null));
+        assertTrue(results.getValidatorResult("key").isValid("bound"));
+        assertSame(action, params.get(Validator.VALIDATOR_ACTION_PARAM));
+    }
+
+    private static ValidatorAction createBoundAction() {
+        final ValidatorAction action = new ValidatorAction();
+        action.setName("bound");
+        action.setClassName(ParameterValuesTest.class.getName());
+        action.setMethod("isBound");
+        action.setMethodParams(Validator.BEAN_PARAM + ", " + Validator.VALIDATOR_ACTION_PARAM + ", " + Validator.FIELD_PARAM + ", " + Validator.LOCALE_PARAM
+                + ", java.lang.String");
+        return action;
+    }
+
+    public static boolean isBound(final Object bean, final ValidatorAction action, final Field field, final Locale locale, final String custom) {
+        return "bean".equals(bean) && "bound".equals(action.getName()) && "key".equals(field.getKey()) && Locale.CANADA.equals(locale)
+                && "custom".equals(custom);
+    }
+
+    @Test
+    void testArgumentsReused() {
+        final ParameterValues values = new ParameterValues(new HashMap<>());
+        final Object[] three = values.getArguments(3);
+        assertEquals(3, three.length);
+        assertSame(three, values.getArguments(3));
+        assertEquals(1, values.getArguments(1).length);
+        assertNotSame(three, values.getArguments(1));
+        assertSame(three, values.getArguments(3));
+    }
+
+    @Test
+    void testClear() {
+        final Map<String, Object> params = new HashMap<>();
+        params.put(Validator.BEAN_PARAM, "bean");
+        final ParameterValues values = new ParameterValues(params);
+        assertEquals("bean", values.get(ParameterValues.BEAN));
+        final Object[] arguments = values.getArguments(2);
+        arguments[0] = "bean";
+        final ValidatorResults results = values.getFieldResults();
+        results.add(new Field(), "x", true);
+        values.clear();
+        // the values are read again from the map, and what is kept holds nothing
+        params.put(Validator.BEAN_PARAM, "other");
+        assertEquals("other", values.get(ParameterValues.BEAN));
+        assertSame(arguments, values.getArguments(2));
+        assertNull(arguments[0]);
+        assertTrue(results.isEmpty());
+    }
+
+    @Test
+    void testDeserializedBindingPlan() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(createBoundAction());
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertBound((ValidatorAction) in.readObject());
+        }
+    }
+
+    @Test
+    void testExecuteValidationMethod() throws ValidatorException {
+        assertBound(createBoundAction());
+    }
+
+    @Test
+    void testFieldSubclass() throws ValidatorException {
+        final AtomicInteger calls = new AtomicInteger();
+        final Field field = new Field() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public ValidatorResults validate(final Map<String, Object> params, final Map<String, ValidatorAction> actions) throws ValidatorException {
+                calls.incrementAndGet();
+                assertSame(this, params.get(Validator.FIELD_PARAM));
+                return super.validate(params, actions);
+            }
+        };
+        field.setProperty("name");
+        final Form form = new Form();
+        form.setName("form");
+        form.addField(field);
+        // an override of the public validate method is called
+        form.validate(new HashMap<>(), Collections.emptyMap(), 0, null, new ValidatorResults());
+        assertEquals(1, calls.get());
+        form.validate(new HashMap<>(), Collections.emptyMap(), 0, "name", new ValidatorResults());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testGetAndSet() {
+        final Map<String, Object> params = new HashMap<>();
+        params.put(Validator.BEAN_PARAM, "bean");
+        final ParameterValues values = new ParameterValues(params);
+        assertEquals("bean", values.get(ParameterValues.BEAN));
+        assertNull(values.get(ParameterValues.LOCALE));
+        final Field field = new Field();
+        values.set(ParameterValues.FIELD, field);
+        assertSame(field, values.get(ParameterValues.FIELD));
+        assertSame(field, params.get(Validator.FIELD_PARAM));
+    }
+
+    @Test
+    void testSlotOf() {
+        assertEquals(ParameterValues.BEAN, ParameterValues.slotOf(Validator.BEAN_PARAM));
+        assertEquals(ParameterValues.VALIDATOR_ACTION, ParameterValues.slotOf(Validator.VALIDATOR_ACTION_PARAM));
+        assertEquals(ParameterValues.FIELD, ParameterValues.slotOf(Validator.FIELD_PARAM));
+        assertEquals(ParameterValues.VALIDATOR, ParameterValues.slotOf(Validator.VALIDATOR_PARAM));
+        assertEquals(ParameterValues.VALIDATOR_RESULTS, ParameterValues.slotOf(Validator.VALIDATOR_RESULTS_PARAM));
+        assertEquals(ParameterValues.LOCALE, ParameterValues.slotOf(Validator.LOCALE_PARAM));
+        assertEquals(ParameterValues.FORM, ParameterValues.slotOf(Validator.FORM_PARAM));
+        assertEquals(ParameterValues.CUSTOM, ParameterValues.slotOf("java.lang.String"));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXException;
+
+/**
+ * Tests {@link ReloadableValidatorResources}.
+ */
+class ReloadableValidatorResourcesTest {
+
+    private Path directory;
+
+    private Path file;
+
+    /**
+     * Replaces the file with a copy of a test resource in which one string is replaced.
+     */
+    private void copy(final String resource, final String target, final String replacement) throws IOException {
+        final String xml;
+        try (InputStream in = getClass().getResourceAsStream(resource)) {
+            final StringBuilder text = new StringBuilder();
+            final byte[] buffer = new byte[4096];
+            int count;
+            while ((count = in.read(buffer)) > 0) {
+                text.append(new String(buffer, 0, count, StandardCharsets.UTF_8));
+            }
+            xml = text.toString().replace(target, replacement);
+        }
+        final Path temp = Files.createTempFile(directory, "validation", ".tmp");
+        Files.write(temp, xml.getBytes(StandardCharsets.UTF_8));
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("validation");
+        file = directory.resolve("validation.xml");
+        copy("ValidatorResourcesLoaderTest-config.xml", "", "");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(directory);
+    }
+
+    @Test
+    void testReload() throws IOException, SAXException {
+        final ReloadableValidatorResources rules = new ReloadableValidatorResources(new ValidatorResourcesLoader()::load, file);
+        final ValidatorResources first = rules.get();
+        assertNotNull(first.getForm(Locale.US, "nameForm"));
+
+        copy("ValidatorResourcesLoaderTest-config.xml", "name=\"nameForm\"", "name=\"renamedForm\"");
+        rules.reload();
+        final ValidatorResources second = rules.get();
+        assertNotSame(first, second);
+        assertNotNull(second.getForm(Locale.US, "renamedForm"));
+        // resources already in use are not changed
+        assertNotNull(first.getForm(Locale.US, "nameForm"));
+        assertNull(first.getForm(Locale.US, "renamedForm"));
+
+        // a failed reload keeps the current resources
+        copy("ValidatorResourcesLoaderTest-config.xml", "</form-validation>", "");
+        assertThrows(SAXException.class, rules::reload);
+        assertSame(second, rules.get());
+    }
+
+    @Test
+    void testWatch() throws IOException, SAXException, InterruptedException {
+        try (ReloadableValidatorResources rules = new ReloadableValidatorResources(new ValidatorResourcesLoader()::load, file)) {
+            rules.watch();
+            final ValidatorResources first = rules.get();
+            copy("ValidatorResourcesLoaderTest-config.xml", "name=\"nameForm\"", "name=\"renamedForm\"");
+            final long deadline = System.currentTimeMillis() + 30_000;
+            while (rules.get() == first && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertNotSame(first, rules.get());
+            assertNotNull(rules.get().getForm(Locale.US, "renamedForm"));
+        }
+    }
+
+    @Test
+    void testWatchAfterClose() throws IOException, SAXException, InterruptedException {
+        final ReloadableValidatorResources rules = new ReloadableValidatorResources(new ValidatorResourcesLoader()::load, file);
+        rules.watch();
+        rules.close();
+        final ValidatorResources first = rules.get();
+        copy("ValidatorResourcesLoaderTest-config.xml", "name=\"nameForm\"", "name=\"renamedForm\"");
+        Thread.sleep(500);
+        assertSame(first, rules.get());
+        assertNotNull(first.getForm(Locale.US, "nameForm"));
+    }
+}
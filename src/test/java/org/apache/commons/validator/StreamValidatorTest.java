@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.commons.validator.util.ValidatorUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link StreamValidator}.
+ */
+class StreamValidatorTest {
+
+    public static boolean isNotFail(final Object bean, final Field field) {
+        return !"fail".equals(ValidatorUtils.getValueAsString(bean, field.getProperty()));
+    }
+
+    /**
+     * The records of a batch, as maps of column names to values, where every tenth record fails.
+     */
+    private static Stream<Map<String, String>> records(final int count) {
+        return IntStream.range(0, count).mapToObj(i -> Collections.singletonMap("name", i % 10 == 3 ? "fail" : "name" + i));
+    }
+
+    private static Validator validator() {
+        final ValidatorAction action = new ValidatorAction();
+        action.setName("notFail");
+        action.setClassName(StreamValidatorTest.class.getName());
+        action.setMethod("isNotFail");
+        action.setMethodParams(Validator.BEAN_PARAM + "," + Validator.FIELD_PARAM);
+        final ValidatorResources resources = new ValidatorResources();
+        resources.addValidatorAction(action);
+        final Field field = new Field();
+        field.setProperty("name");
+        field.setDepends("notFail");
+        final Form form = new Form();
+        form.setName("record");
+        form.addField(field);
+        final FormSet formSet = new FormSet();
+        formSet.addForm(form);
+        resources.addFormSet(formSet);
+        resources.process();
+        final Validator validator = new Validator(resources, "record");
+        validator.setOnlyReturnErrors(true);
+        return validator;
+    }
+
+    @Test
+    void testExecutor() throws ValidatorException {
+        final StreamValidator records = new StreamValidator(validator());
+        final Set<Long> failed = ConcurrentHashMap.newKeySet();
+        final Set<Long> seen = ConcurrentHashMap.newKeySet();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertEquals(10_000, records.validate(records(10_000), executor, 4, (index, record, results) -> {
+                assertTrue(seen.add(index));
+                if (!results.isEmpty()) {
+                    assertEquals("fail", ((Map<?, ?>) record).get("name"));
+                    failed.add(index);
+                }
+            }));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(10_000, seen.size());
+        assertEquals(1_000, failed.size());
+        assertTrue(failed.contains(9_993L));
+    }
+
+    @Test
+    void testExecutorFailure() throws ValidatorException {
+        final StreamValidator records = new StreamValidator(validator());
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final StreamValidator.Sink sink = (index, record, results) -> {
+                if (index == 1_000) {
+                    throw new ValidatorException("stop");
+                }
+            };
+            final ValidatorException e = assertThrows(ValidatorException.class, () -> records.validate(records(10_000), executor, 2, sink));
+            assertEquals("stop", e.getMessage());
+            // no batch is being validated any more, and no bean is lost by the next call
+            assertEquals(10, records.validate(records(10), executor, 2, (index, record, results) -> { }));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testMissingForm() {
+        final Validator validator = validator();
+        validator.setFormName("missing");
+        assertThrows(IllegalArgumentException.class, () -> new StreamValidator(validator));
+    }
+
+    @Test
+    void testSequential() throws ValidatorException {
+        final Validator validator = validator();
+        final StreamValidator records = new StreamValidator(validator);
+        final List<Long> failed = new ArrayList<>();
+        final ValidatorResults[] last = new ValidatorResults[1];
+        assertEquals(100, records.validate(records(100), (index, record, results) -> {
+            if (!results.isEmpty()) {
+                assertFalse(results.getValidatorResult("name").isValid("notFail"));
+                failed.add(index);
+            }
+            // the results are reused for each record
+            if (last[0] != null) {
+                assertSame(last[0], results);
+            }
+            last[0] = results;
+        }));
+        assertEquals(10, failed.size());
+        assertEquals(Long.valueOf(93), failed.get(9));
+        // the Validator is not used
+        assertTrue(validator.getParameters().isEmpty());
+    }
+}
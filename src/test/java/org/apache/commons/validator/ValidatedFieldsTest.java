@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ValidatedFields}.
+ */
+class ValidatedFieldsTest {
+
+    private static Field field(final String property) {
+        final Field field = new Field();
+        field.setProperty(property);
+        return field;
+    }
+
+    @Test
+    void testCheck() {
+        final ValidatedFields validated = new ValidatedFields();
+        final Object bean = new Object();
+        final Field field = field("letter");
+        final ValidatorResults results = new ValidatorResults();
+        results.add(field, "x", false);
+        validated.check(null, bean, Locale.US, false);
+        validated.put(field, "L", results);
+        validated.check(null, bean, Locale.US, false);
+        assertTrue(validated.get(field, "L").getPropertyNames().contains("letter"));
+        validated.check(null, bean, Locale.FRANCE, false);
+        assertNull(validated.get(field, "L"));
+        validated.put(field, "L", results);
+        validated.check(null, bean, Locale.FRANCE, true);
+        assertNull(validated.get(field, "L"));
+        validated.put(field, "L", results);
+        validated.check(null, new Object(), Locale.FRANCE, true);
+        assertNull(validated.get(field, "L"));
+    }
+
+    @Test
+    void testGetAndPut() {
+        final ValidatedFields validated = new ValidatedFields();
+        final Field field = field("letter");
+        final ValidatorResults results = new ValidatorResults();
+        results.add(field, "x", true);
+        validated.put(field, "L", results);
+        // the results are copied
+        results.clear();
+        assertEquals(Collections.singleton("letter"), validated.get(field, "L").getPropertyNames());
+        assertNull(validated.get(field, "M"));
+        assertNull(validated.get(field("letter"), "L"));
+        validated.put(field, null, results);
+        assertTrue(validated.get(field, null).isEmpty());
+        validated.put(field, ValidatedFields.UNKNOWN, results);
+        assertNull(validated.get(field, null));
+        assertNull(validated.get(field, ValidatedFields.UNKNOWN));
+    }
+
+    @Test
+    void testValueOf() {
+        final ValidatorTest.TestBean bean = new ValidatorTest.TestBean();
+        bean.setLetter("L");
+        assertEquals("L", ValidatedFields.valueOf(bean, field("letter")));
+        assertNull(ValidatedFields.valueOf(bean, field("date")));
+        assertSame(ValidatedFields.UNKNOWN, ValidatedFields.valueOf(bean, field("missing")));
+        assertSame(ValidatedFields.UNKNOWN, ValidatedFields.valueOf(bean, field("")));
+        assertSame(ValidatedFields.UNKNOWN, ValidatedFields.valueOf(null, field("letter")));
+        // values of mutable types cannot be compared with the values they had
+        assertSame(ValidatedFields.UNKNOWN, ValidatedFields.valueOf(Collections.singletonMap("letter", new StringBuilder("L")), field("letter")));
+        assertEquals(Integer.valueOf(1), ValidatedFields.valueOf(Collections.singletonMap("letter", 1), field("letter")));
+        assertSame(Locale.Category.FORMAT, ValidatedFields.valueOf(Collections.singletonMap("letter", Locale.Category.FORMAT), field("letter")));
+    }
+}
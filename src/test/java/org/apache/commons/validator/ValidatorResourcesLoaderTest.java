@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Tests {@link ValidatorResourcesLoader}.
+ */
+class ValidatorResourcesLoaderTest {
+
+    private URL resource(final String name) {
+        return getClass().getResource(name);
+    }
+
+    /**
+     * Tests that the loader reads the same rules as the Digester.
+     */
+    @Test
+    void testEquivalentToDigester() throws IOException, SAXException {
+        final String[][] configs = { { "ValidatorResourcesLoaderTest-config.xml" }, { "EntityImportTest-config.xml" }, { "ExtensionTest-config.xml" },
+                { "LocaleTest-config.xml" }, { "MultipleConfigFilesTest-1-config.xml", "MultipleConfigFilesTest-2-config.xml" },
+                { "RequiredIfTest-config.xml" }, { "ValidatorResultsTest-config.xml" }, { "VarTest-config.xml" } };
+        for (final String[] names : configs) {
+            final URL[] urls = new URL[names.length];
+            for (int i = 0; i < names.length; i++) {
+                urls[i] = resource(names[i]);
+            }
+            final ValidatorResources digested = new ValidatorResources(urls);
+            final ValidatorResources loaded = new ValidatorResourcesLoader(false, true).load(urls);
+            assertTrue(ValidatorResourcesSnapshot.isEquivalent(digested, loaded), () -> ValidatorResourcesSnapshot.difference(digested, loaded));
+        }
+    }
+
+    @Test
+    void testEntityImport() throws IOException, SAXException {
+        final ValidatorResourcesLoader loader = new ValidatorResourcesLoader(true, true);
+        assertTrue(loader.isExternalEntities());
+        final ValidatorResources resources = loader.load(resource("EntityImportTest-config.xml"));
+        assertNotNull(resources.getForm(Locale.getDefault(), "byteForm"));
+    }
+
+    @Test
+    void testExternalEntityRefused() {
+        final URL url = resource("EntityImportTest-config.xml");
+        assertFalse(new ValidatorResourcesLoader().isExternalEntities());
+        assertThrows(SAXException.class, () -> new ValidatorResourcesLoader().load(url));
+        assertThrows(SAXException.class, () -> new ValidatorResourcesLoader(true).load(url));
+    }
+
+    @Test
+    void testInvalid() throws IOException, SAXException {
+        final URL url = resource("ValidatorResourcesLoaderTest-invalid.xml");
+        assertNotNull(new ValidatorResourcesLoader().load(url).getForm(Locale.getDefault(), "nameForm"));
+        final SAXParseException e = assertThrows(SAXParseException.class, () -> new ValidatorResourcesLoader(true).load(url));
+        assertTrue(e.getLineNumber() > 0);
+    }
+
+    @Test
+    void testLoad() throws IOException, SAXException {
+        final ValidatorResourcesLoader loader = new ValidatorResourcesLoader(true);
+        assertTrue(loader.isValidating());
+        final ValidatorResources resources = loader.load(resource("ValidatorResourcesLoaderTest-config.xml"));
+
+        final ValidatorAction required = resources.getValidatorAction("required");
+        assertEquals("org.apache.commons.validator.GenericValidatorImpl", required.getClassname());
+        assertEquals("errors.required", required.getMsg());
+        assertTrue(required.getJavascript().startsWith("function validateRequired(form) {"));
+        assertTrue(resources.getValidatorAction("int").isDependency("required"));
+
+        final Form form = resources.getForm(Locale.US, "nameForm");
+        final Field firstName = form.getField("firstName");
+        assertEquals("required", firstName.getDepends());
+        assertEquals("nameForm.firstname.displayname", firstName.getArg(0).getKey());
+        assertEquals("firstName", firstName.getArg(1).getKey());
+        assertFalse(firstName.getArg(1).isResource());
+        assertEquals("errors.firstname.required", firstName.getMsg("required"));
+        assertEquals("names", firstName.getMessage("required").getBundle());
+        assertEquals("10", firstName.getVarValue("maxLength"));
+        assertEquals(Var.JSTYPE_INT, firstName.getVar("maxLength").getJsType());
+        final Field lastName = form.getField("lastName");
+        assertEquals(1, lastName.getPage());
+        assertEquals("nameForm.lastname.displayname", lastName.getArg(0).getKey());
+
+        assertEquals("20", resources.getForm(Locale.FRENCH, "nameForm").getField("firstName").getVarValue("maxLength"));
+    }
+
+    /**
+     * Tests that forms and constants of several files are merged into the same {@code FormSet}, as in {@link MultipleConfigFilesTest}.
+     */
+    @Test
+    void testMergedConfig() throws IOException, SAXException, ValidatorException {
+        final ValidatorResources resources = new ValidatorResourcesLoader().load(resource("MultipleConfigFilesTest-1-config.xml"),
+                resource("MultipleConfigFilesTest-2-config.xml"));
+        final Field field2 = resources.getForm("", "", "", "testForm2").getField("testProperty2");
+        assertEquals("testConstValue1", field2.getVarValue("var21"));
+        assertEquals("testConstValue2", field2.getVarValue("var22"));
+        final Field field1Fr = resources.getForm("fr", "", "", "testForm1_fr").getField("testProperty1_fr");
+        assertEquals("testConstValue1_fr", field1Fr.getVarValue("var11_fr"));
+        assertEquals("testConstValue2_fr", field1Fr.getVarValue("var12_fr"));
+
+        final NameBean name = new NameBean();
+        name.setFirstName("");
+        name.setLastName("Test");
+        final Validator validator = new Validator(resources, "nameForm");
+        validator.setParameter(Validator.BEAN_PARAM, name);
+        final ValidatorResults results = validator.validate();
+        assertFalse(results.getValidatorResult("firstName").isValid("required"));
+        assertFalse(results.getValidatorResult("lastName").isValid("int"));
+    }
+
+    @Test
+    void testNullUrl() {
+        assertThrows(IllegalArgumentException.class, () -> new ValidatorResourcesLoader().load((URL) null));
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.net.URL;
+import java.text.DateFormatSymbols;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.validator.util.ValidatorUtils;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXException;
+
+/**
+ * Tests {@link ValidatorResourcesSnapshot}.
+ */
+class ValidatorResourcesSnapshotTest {
+
+    public static boolean isLetter(final Object bean, final Field field) {
+        final String value = ValidatorUtils.getValueAsString(bean, field.getProperty());
+        return value != null && value.length() == 1 && Character.isLetter(value.charAt(0));
+    }
+
+    private static ValidatorResources createResources() {
+        return createResources(new ValidatorResources());
+    }
+
+    private static ValidatorResources createResources(final ValidatorResources resources) {
+        final ValidatorAction action = new ValidatorAction();
+        action.setName("letter");
+        action.setClassName(ValidatorResourcesSnapshotTest.class.getName());
+        action.setMethod("isLetter");
+        action.setMethodParams(Validator.BEAN_PARAM + "," + Validator.FIELD_PARAM);
+        action.setMsg("errors.letter");
+        resources.addValidatorAction(action);
+        resources.addConstant("letterMax", "1");
+
+        final Field field = new Field();
+        field.setProperty("letter");
+        field.setDepends("letter");
+        field.addVar("max", "${letterMax}", null);
+        final Arg arg = new Arg();
+        arg.setKey("label.letter");
+        field.addArg(arg);
+        final Form form = new Form();
+        form.setName("testForm");
+        form.addField(field);
+        final FormSet formSet = new FormSet();
+        formSet.addForm(form);
+        resources.addFormSet(formSet);
+
+        final Field frenchField = new Field();
+        frenchField.setProperty("letter");
+        frenchField.setDepends("letter");
+        frenchField.addVar("max", "${letterMax}", null);
+        final Form frenchForm = new Form();
+        frenchForm.setName("testForm");
+        frenchForm.addField(frenchField);
+        final FormSet frenchFormSet = new FormSet();
+        frenchFormSet.setLanguage("fr");
+        frenchFormSet.addForm(frenchForm);
+        resources.addFormSet(frenchFormSet);
+
+        resources.process();
+        return resources;
+    }
+
+    private static ValidatorResources roundTrip(final ValidatorResources resources) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ValidatorResourcesSnapshot.write(resources, out);
+        return ValidatorResourcesSnapshot.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @Test
+    void testDifference() throws IOException {
+        final ValidatorResources resources = createResources();
+        final ValidatorResources snapshot = roundTrip(resources);
+        snapshot.getForm(Locale.FRENCH, "testForm").getField("letter").setPage(2);
+        assertFalse(ValidatorResourcesSnapshot.isEquivalent(resources, snapshot));
+        assertTrue(ValidatorResourcesSnapshot.difference(resources, snapshot).contains("page=2"));
+    }
+
+    @Test
+    void testNotASnapshot() {
+        assertThrows(IOException.class, () -> ValidatorResourcesSnapshot.read(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 0, 0, 0, 1 })));
+    }
+
+    @Test
+    void testNotProcessed() {
+        assertThrows(IllegalArgumentException.class, () -> ValidatorResourcesSnapshot.write(new ValidatorResources(), new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void testOtherClassesRejected() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ValidatorResourcesSnapshot.write(createResources(), out);
+        // keep the header, replace the model
+        final byte[] header = new byte[8];
+        System.arraycopy(out.toByteArray(), 0, header, 0, header.length);
+        // classes of java.text, java.util and this package that the model does not hold
+        for (final Object other : new Object[] { new DateFormatSymbols(), new PriorityQueue<>(), new ValidatorResults() }) {
+            final ByteArrayOutputStream forged = new ByteArrayOutputStream();
+            forged.write(header);
+            try (ObjectOutputStream objects = new ObjectOutputStream(new GZIPOutputStream(forged))) {
+                objects.writeObject(other);
+            }
+            assertThrows(InvalidClassException.class, () -> ValidatorResourcesSnapshot.read(new ByteArrayInputStream(forged.toByteArray())),
+                    other.getClass().getName());
+        }
+    }
+
+    @Test
+    void testRoundTrip() throws IOException, ValidatorException {
+        final ValidatorResources resources = createResources();
+        final ValidatorResources snapshot = roundTrip(resources);
+        assertTrue(ValidatorResourcesSnapshot.isEquivalent(resources, snapshot), () -> ValidatorResourcesSnapshot.difference(resources, snapshot));
+
+        final Form form = snapshot.getForm(Locale.US, "testForm");
+        assertNotNull(snapshot.getFormPlan(form));
+        assertEquals("1", form.getField("letter").getVarValue("max"));
+        assertEquals("label.letter", form.getField("letter").getArg(0).getKey());
+
+        final ValidatorTest.TestBean bean = new ValidatorTest.TestBean();
+        bean.setLetter("ab");
+        final Validator validator = new Validator(snapshot, "testForm");
+        validator.setParameter(Validator.BEAN_PARAM, bean);
+        assertFalse(validator.validate().getValidatorResult("letter").isValid("letter"));
+        bean.setLetter("a");
+        assertTrue(validator.validate().getValidatorResult("letter").isValid("letter"));
+    }
+
+    @Test
+    void testRoundTripDeferred() throws IOException, SAXException {
+        final ValidatorResources deferred = createResources(new ValidatorResources(new URL[0], Runnable::run, true));
+        final ValidatorResources snapshot = roundTrip(deferred);
+        // the deferred FormSets are processed before they are written
+        final ValidatorResources resources = createResources();
+        assertTrue(ValidatorResourcesSnapshot.isEquivalent(resources, snapshot), () -> ValidatorResourcesSnapshot.difference(resources, snapshot));
+        assertTrue(ValidatorResourcesSnapshot.isEquivalent(resources, deferred), () -> ValidatorResourcesSnapshot.difference(resources, deferred));
+        final Form form = snapshot.getForm(Locale.FRENCH, "testForm");
+        assertEquals("1", form.getField("letter").getVarValue("max"));
+        assertNotNull(snapshot.getFormPlan(form));
+    }
+
+    @Test
+    void testRoundTripAfterValidation() throws IOException, ValidatorException {
+        final ValidatorResources resources = createResources();
+        final ValidatorTest.TestBean bean = new ValidatorTest.TestBean();
+        bean.setLetter("a");
+        final Validator validator = new Validator(resources, "testForm");
+        validator.setParameter(Validator.BEAN_PARAM, bean);
+        assertTrue(validator.validate().getValidatorResult("letter").isValid("letter"));
+        // the loaded validation class is not part of the snapshot
+        assertTrue(ValidatorResourcesSnapshot.isEquivalent(resources, roundTrip(resources)));
+    }
+}
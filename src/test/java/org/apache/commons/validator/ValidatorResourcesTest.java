@@ -16,17 +16,261 @@
  */
 package org.apache.commons.validator;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.commons.lang3.SerializationUtils;
 import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXException;
 
 /**
  * Test ValidatorResources.
  */
 class ValidatorResourcesTest {
 
+    private static Form form(final String name, final String property) {
+        final Field field = new Field();
+        field.setProperty(property);
+        field.addVar("label", "${label}", null);
+        final Form form = new Form();
+        form.setName(name);
+        form.addField(field);
+        return form;
+    }
+
+    private static FormSet formSet(final String language, final String country, final Form... forms) {
+        final FormSet formSet = new FormSet();
+        formSet.setLanguage(language);
+        formSet.setCountry(country);
+        for (final Form form : forms) {
+            formSet.addForm(form);
+        }
+        return formSet;
+    }
+
+    /**
+     * Test that the {@code FormSet} of a locale and its parents are processed on first use when processing is deferred.
+     */
+    @Test
+    void testDeferredFormSets() throws IOException, SAXException {
+        final ValidatorResources resources = new ValidatorResources(new URL[0], Runnable::run, true);
+        resources.addConstant("label", "default");
+        resources.addFormSet(formSet(null, null, form("form", "name")));
+        final FormSet french = formSet("fr", null, form("form", "nom"));
+        french.addConstant("label", "fr");
+        resources.addFormSet(french);
+        final FormSet canadian = formSet("fr", "CA", form("other", "nom"));
+        resources.addFormSet(canadian);
+        final FormSet german = formSet("de", null, form("form", "name"));
+        resources.addFormSet(german);
+        resources.process();
+
+        assertFalse(french.isProcessed());
+        assertFalse(canadian.isProcessed());
+        assertEquals("default", resources.getForm(Locale.US, "form").getField("name").getVarValue("label"));
+
+        final Form form = resources.getForm(Locale.CANADA_FRENCH, "form");
+        assertSame(french.getForm("form"), form);
+        assertTrue(french.isProcessed());
+        assertTrue(canadian.isProcessed());
+        assertFalse(german.isProcessed());
+        // only the FormSets found are merged with their parents
+        assertSame(french.getForm("form"), canadian.getForm("form"));
+        assertFalse(german.isMerged());
+        assertEquals("fr", form.getField("nom").getVarValue("label"));
+        assertNotNull(resources.getFormPlan(form));
+        assertNotNull(resources.getFormPlan(resources.getForm(Locale.CANADA_FRENCH, "other")));
+    }
+
+    /**
+     * Test that processed resources hold the form sets, actions and fields once, in the frozen copies, which are serialized.
+     */
+    @Test
+    @SuppressWarnings("deprecation") // reads hFormSets, hActions and hFields
+    void testFrozenMaps() throws IOException, SAXException {
+        final ValidatorResources resources = new ValidatorResources(new URL[] { getClass().getResource("MultipleConfigFilesTest-1-config.xml"),
+                getClass().getResource("MultipleConfigFilesTest-2-config.xml") });
+        final Form form = resources.getForm(Locale.FRENCH, "testForm2");
+        assertNotNull(form);
+        assertTrue(resources.hFormSets.isEmpty());
+        assertTrue(resources.hActions.isEmpty());
+        assertTrue(form.hFields.isEmpty());
+
+        final ValidatorResources copy = SerializationUtils.roundtrip(resources);
+        assertTrue(ValidatorResourcesSnapshot.isEquivalent(resources, copy), () -> ValidatorResourcesSnapshot.difference(resources, copy));
+        assertTrue(copy.hFormSets.isEmpty());
+
+        // changing the resources moves the entries back
+        final ValidatorAction action = new ValidatorAction();
+        action.setName("other");
+        action.setClassname(ValidatorResourcesTest.class.getName());
+        action.setMethod("toString");
+        resources.addValidatorAction(action);
+        assertEquals(resources.getValidatorActions().size(), resources.hActions.size());
+        assertFalse(resources.hFormSets.isEmpty());
+        assertNotNull(resources.getForm(Locale.FRENCH, "testForm2"));
+    }
+
+    /**
+     * Test that processed resources look up the form of a locale and form key once.
+     */
+    @Test
+    void testResolvedForm() {
+        final AtomicInteger lookups = new AtomicInteger();
+        final ValidatorResources resources = new ValidatorResources() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Form getForm(final String language, final String country, final String variant, final String formKey) {
+                lookups.incrementAndGet();
+                return super.getForm(language, country, variant, formKey);
+            }
+        };
+        resources.addFormSet(formSet(null, null, form("form", "name")));
+        resources.getForm(Locale.FRANCE, "form");
+        resources.getForm(Locale.FRANCE, "form");
+        assertEquals(2, lookups.getAndSet(0));
+
+        resources.process();
+        final Form form = resources.getForm(Locale.FRANCE, "form");
+        assertSame(form, resources.getForm(Locale.FRANCE, "form"));
+        assertEquals(1, lookups.getAndSet(0));
+        // a form that is not found is not remembered
+        assertNull(resources.getForm(Locale.FRANCE, "other"));
+        assertNull(resources.getForm(Locale.FRANCE, "other"));
+        assertEquals(2, lookups.getAndSet(0));
+
+        // the resolved forms are discarded with the plans
+        final FormSet french = formSet("fr", null, form("form", "nom"));
+        resources.addFormSet(french);
+        resources.process();
+        assertSame(french.getForm("form"), resources.getForm(Locale.FRANCE, "form"));
+        assertSame(form, resources.getForm(Locale.GERMANY, "form"));
+        assertEquals(2, lookups.get());
+    }
+
+    /**
+     * Test that parsing several files concurrently merges them as parsing them in order does.
+     */
+    @Test
+    void testExecutor() throws IOException, SAXException {
+        final URL[] urls = { getClass().getResource("MultipleConfigFilesTest-1-config.xml"),
+                getClass().getResource("MultipleConfigFilesTest-2-config.xml") };
+        final ValidatorResources serial = new ValidatorResources(urls);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final ValidatorResources parallel = new ValidatorResources(urls, executor, false);
+            assertTrue(ValidatorResourcesSnapshot.isEquivalent(serial, parallel), () -> ValidatorResourcesSnapshot.difference(serial, parallel));
+            final ValidatorResources deferred = new ValidatorResources(urls, executor, true);
+            assertNotNull(deferred.getForm(Locale.FRENCH, "testForm2"));
+            assertTrue(ValidatorResourcesSnapshot.isEquivalent(serial, deferred), () -> ValidatorResourcesSnapshot.difference(serial, deferred));
+            final ValidatorResources uris = new ValidatorResources(new String[] { urls[0].toExternalForm(), urls[1].toExternalForm() }, executor, false);
+            assertTrue(ValidatorResourcesSnapshot.isEquivalent(serial, uris), () -> ValidatorResourcesSnapshot.difference(serial, uris));
+            try (InputStream first = urls[0].openStream(); InputStream second = urls[1].openStream()) {
+                final ValidatorResources streams = new ValidatorResources(new InputStream[] { first, second }, executor, false);
+                assertTrue(ValidatorResourcesSnapshot.isEquivalent(serial, streams), () -> ValidatorResourcesSnapshot.difference(serial, streams));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Test that the JavaScript of an action parsed on another thread is loaded with the context class loader of the calling thread.
+     */
+    @Test
+    void testExecutorClassLoader() throws Exception {
+        final Path directory = Files.createTempDirectory("validation");
+        final Path script = Files.createDirectories(directory.resolve("webapp")).resolve("validateCustom.js");
+        Files.write(script, "function validateCustom(form) {}\n".getBytes(StandardCharsets.UTF_8));
+        final Path config = directory.resolve("validation.xml");
+        Files.write(config, ("<!DOCTYPE form-validation PUBLIC \"-//Apache Software Foundation//DTD Commons Validator Rules Configuration 1.4.0//EN\""
+                + " \"http://commons.apache.org/dtds/validator_1_4_0.dtd\">\n<form-validation><global><validator name=\"custom\""
+                + " classname=\"org.apache.commons.validator.GenericValidatorImpl\" method=\"validateRequired\""
+                + " methodParams=\"java.lang.Object,org.apache.commons.validator.Field\" msg=\"\" jsFunction=\"webapp.validateCustom\"/>"
+                + "</global></form-validation>\n").getBytes(StandardCharsets.UTF_8));
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final Thread thread = Thread.currentThread();
+        final ClassLoader previous = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { directory.toUri().toURL() }, previous)) {
+            // start the worker before the context class loader is set, so that it does not inherit it
+            executor.submit(() -> { }).get();
+            thread.setContextClassLoader(loader);
+            final ValidatorResources resources = new ValidatorResources(new URL[] { config.toUri().toURL() }, executor, false);
+            assertEquals("function validateCustom(form) {}\n", resources.getValidatorAction("custom").getJavascript());
+        } finally {
+            thread.setContextClassLoader(previous);
+            executor.shutdown();
+            Files.delete(script);
+            Files.delete(script.getParent());
+            Files.delete(config);
+            Files.delete(directory);
+        }
+    }
+
+    /**
+     * Test that the JavaScript of a form holds the functions of the actions its fields depend on, each once and minified.
+     */
+    @Test
+    void testJavascript() throws IOException {
+        final ValidatorResources resources = new ValidatorResources();
+        for (final String name : new String[] { "x", "y", "a", "unused" }) {
+            final ValidatorAction action = new ValidatorAction();
+            action.setName(name);
+            action.setClassName(ValidatorTest.class.getName());
+            action.setMethod("formatDate");
+            action.setMethodParams(Validator.BEAN_PARAM + "," + Validator.FIELD_PARAM);
+            if ("a".equals(name)) {
+                action.setDepends("x");
+            }
+            action.setJavascript("/*\n * The " + name + " rule.\n */\nfunction " + name
+                    + "(form) {\n\n    // the value\n    return /x*/.test(form.value); /* x */\n}\n");
+            resources.addValidatorAction(action);
+        }
+        final Form form = new Form();
+        form.setName("form");
+        for (final String[] field : new String[][] { { "letter", "a" }, { "date", "y,missing" }, { "number", "x" } }) {
+            final Field f = new Field();
+            f.setProperty(field[0]);
+            f.setDepends(field[1]);
+            form.addField(f);
+        }
+        resources.addFormSet(formSet(null, null, form));
+        final String body = "(form) {\nreturn /x*/.test(form.value); /* x */\n}\n";
+        final String expected = "function a" + body + "function x" + body + "function y" + body;
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        resources.writeJavascript(Locale.getDefault(), "form", out);
+        assertEquals(expected, new String(out.toByteArray(), StandardCharsets.UTF_8));
+        resources.process();
+        out.reset();
+        resources.writeJavascript(Locale.getDefault(), "form", out);
+        assertEquals(expected, new String(out.toByteArray(), StandardCharsets.UTF_8));
+        // the script is built once
+        final FormPlan plan = resources.getFormPlan(resources.getForm(Locale.getDefault(), "form"));
+        assertSame(plan.getJavascript(), plan.getJavascript());
+        out.reset();
+        resources.writeJavascript(Locale.getDefault(), "noform", out);
+        assertEquals(0, out.size());
+    }
+
     /**
      * Test null Input Stream for Validator Resources.
      */
@@ -35,4 +279,14 @@ class ValidatorResourcesTest {
         assertThrows(IllegalArgumentException.class, () -> new ValidatorResources((InputStream) null));
     }
 
+    /**
+     * Test null URL for Validator Resources loaded with an executor.
+     */
+    @Test
+    void testNullUrl() {
+        assertThrows(IllegalArgumentException.class, () -> new ValidatorResources(new URL[] { null }, Runnable::run, false));
+        assertThrows(IllegalArgumentException.class, () -> new ValidatorResources(new String[] { null }, Runnable::run, false));
+        assertThrows(IllegalArgumentException.class, () -> new ValidatorResources(new InputStream[] { null }, Runnable::run, false));
+    }
+
 }
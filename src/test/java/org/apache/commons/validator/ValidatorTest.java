@@ -25,7 +25,10 @@ import static org.junit.jupiter.api.Assertions.fail;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 
@@ -334,4 +337,62 @@ class ValidatorTest {
         assertTrue(results.getPropertyNames().contains(property));
     }
 
+    /**
+     * Test that a validator reset validates other beans with the same form and options.
+     */
+    @Test
+    void testReset() throws ValidatorException {
+        final ValidatorResources resources = setupDateResources("date", "date");
+        final Validator validator = new Validator(resources, "testForm");
+        validator.setOnlyReturnErrors(true);
+        final TestBean valid = new TestBean();
+        valid.setDate("2/3/1999");
+        final TestBean invalid = new TestBean();
+        invalid.setDate("2/30/1999");
+        for (int i = 0; i < 3; i++) {
+            validator.setParameter(Validator.BEAN_PARAM, valid);
+            assertTrue(validator.validate().isEmpty());
+            validator.reset();
+            assertEquals("testForm", validator.getFormName());
+            assertTrue(validator.getOnlyReturnErrors());
+            assertTrue(validator.getParameters().isEmpty());
+            validator.setParameter(Validator.BEAN_PARAM, invalid);
+            assertEquals(Collections.singleton("date"), validator.validate().getPropertyNames());
+            validator.reset();
+        }
+    }
+
+    /**
+     * Test that a form set on the validator is validated without resolving the form of the locale.
+     */
+    @Test
+    void testSetForm() throws ValidatorException {
+        final ValidatorResources resources = setupDateResources("date", "date");
+        final Field field = new Field();
+        field.setProperty("letter");
+        field.setDepends("date");
+        final Form french = new Form();
+        french.setName("testForm");
+        french.addField(field);
+        final FormSet formSet = new FormSet();
+        formSet.setLanguage("fr");
+        formSet.addForm(french);
+        resources.addFormSet(formSet);
+        resources.process();
+
+        final TestBean bean = new TestBean();
+        bean.setDate("2/3/1999");
+        bean.setLetter("2/3/1999");
+        final Validator validator = new Validator(resources);
+        validator.setForm(french);
+        assertEquals("testForm", validator.getFormName());
+        validator.setParameter(Validator.BEAN_PARAM, bean);
+        validator.setParameter(Validator.LOCALE_PARAM, Locale.GERMANY);
+        // the French form inherits the field of the default form
+        assertEquals(new HashSet<>(Arrays.asList("date", "letter")), validator.validate().getPropertyNames());
+        // a form name resolves the form of the locale again
+        validator.setFormName("testForm");
+        assertEquals(Collections.singleton("date"), validator.validate().getPropertyNames());
+    }
+
 }
\ No newline at end of file
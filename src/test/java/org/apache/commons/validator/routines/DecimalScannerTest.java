@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link DecimalScanner}.
+ */
+class DecimalScannerTest {
+
+    private static final Locale[] LOCALES = { Locale.US, Locale.UK, Locale.GERMANY, Locale.FRANCE, Locale.JAPAN, Locale.forLanguageTag("de-AT"),
+            Locale.forLanguageTag("de-CH"), Locale.forLanguageTag("en-IN"), Locale.forLanguageTag("sv-SE"), Locale.forLanguageTag("nl-NL") };
+
+    private static final String NOISE = "0123456789.,-+()$£€   '%Ee";
+
+    private static DecimalFormat[] formats(final Locale locale) {
+        final DecimalFormat integer = (DecimalFormat) NumberFormat.getInstance(locale);
+        integer.setParseIntegerOnly(true);
+        final DecimalFormat[] formats = { (DecimalFormat) NumberFormat.getInstance(locale), (DecimalFormat) NumberFormat.getCurrencyInstance(locale),
+                (DecimalFormat) NumberFormat.getPercentInstance(locale), integer };
+        for (final DecimalFormat format : formats) {
+            format.setParseBigDecimal(true);
+        }
+        return formats;
+    }
+
+    /**
+     * Parses with the format the way a strict validator does.
+     */
+    private static BigDecimal parse(final DecimalFormat format, final String value) {
+        final ParsePosition pos = new ParsePosition(0);
+        final Object parsed = format.parseObject(value, pos);
+        if (pos.getErrorIndex() > -1 || pos.getIndex() < value.length()) {
+            return null;
+        }
+        return (BigDecimal) parsed;
+    }
+
+    private static String randomAmount(final Random random, final DecimalFormat format) {
+        final long unscaled = (long) (random.nextDouble() * Math.pow(10, 1 + random.nextInt(15)));
+        final BigDecimal amount = BigDecimal.valueOf(random.nextBoolean() ? unscaled : -unscaled, random.nextInt(5));
+        return format.format(amount);
+    }
+
+    private static String mutate(final Random random, final String value) {
+        final StringBuilder buffer = new StringBuilder(value);
+        final int edits = 1 + random.nextInt(3);
+        for (int i = 0; i < edits; i++) {
+            final int index = buffer.length() == 0 ? 0 : random.nextInt(buffer.length() + 1);
+            switch (random.nextInt(3)) {
+            case 0:
+                if (index < buffer.length()) {
+                    buffer.deleteCharAt(index);
+                }
+                break;
+            case 1:
+                buffer.insert(index, NOISE.charAt(random.nextInt(NOISE.length())));
+                break;
+            default:
+                if (index < buffer.length()) {
+                    buffer.setCharAt(index, NOISE.charAt(random.nextInt(NOISE.length())));
+                }
+                break;
+            }
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Any value the scanner accepts must be parsed by {@code DecimalFormat} to an equal {@code BigDecimal} with the same scale.
+     */
+    private static void assertEquivalent(final DecimalFormat format, final String value) {
+        final DecimalScanner scanner = DecimalScanner.getInstance(format);
+        assertNotNull(scanner, format.toPattern());
+        if (scanner.scan(value)) {
+            assertEquals(parse(format, value), scanner.toBigDecimal(), "'" + value + "' with " + format.toPattern());
+        }
+    }
+
+    @Test
+    void testFuzzedEquivalence() {
+        final Random random = new Random(20261019L);
+        for (final Locale locale : LOCALES) {
+            for (final DecimalFormat format : formats(locale)) {
+                for (int i = 0; i < 2000; i++) {
+                    final String amount = randomAmount(random, format);
+                    assertEquivalent(format, amount);
+                    assertEquivalent(format, mutate(random, amount));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testFormattedAmountsAreScanned() {
+        final Random random = new Random(42L);
+        for (final Locale locale : LOCALES) {
+            final DecimalFormat format = (DecimalFormat) NumberFormat.getCurrencyInstance(locale);
+            format.setParseBigDecimal(true);
+            final DecimalScanner scanner = DecimalScanner.getInstance(format);
+            for (int i = 0; i < 500; i++) {
+                final String amount = randomAmount(random, format);
+                assertTrue(scanner.scan(amount), "'" + amount + "' " + locale);
+                assertEquals(parse(format, amount), scanner.toBigDecimal(), "'" + amount + "' " + locale);
+            }
+        }
+    }
+
+    @Test
+    void testScan() {
+        final DecimalFormat format = (DecimalFormat) NumberFormat.getCurrencyInstance(Locale.US);
+        final DecimalScanner scanner = DecimalScanner.getInstance(format);
+        assertTrue(scanner.scan("$1,234.56"));
+        assertEquals(123456, scanner.getUnscaledValue());
+        assertEquals(2, scanner.getScale());
+        assertEquals(new BigDecimal("1234.56"), scanner.toBigDecimal());
+        assertTrue(scanner.scan("-$1,234.5"));
+        assertEquals(-12345, scanner.getUnscaledValue());
+        assertEquals(new BigDecimal("-1234.5"), scanner.toBigDecimal());
+        assertFalse(scanner.scan("$1,234.56X"), "trailing text");
+        assertFalse(scanner.scan("$1,234.5,6"), "grouping in fraction");
+        assertFalse(scanner.scan("$1,"), "trailing grouping");
+        assertFalse(scanner.scan("$"), "no digits");
+        assertFalse(scanner.scan("1,234.56"), "no symbol");
+        assertFalse(scanner.scan("$12345678901234567890"), "too many digits");
+        assertFalse(scanner.scan(null));
+    }
+
+    @Test
+    void testPercent() {
+        final DecimalFormat format = (DecimalFormat) NumberFormat.getPercentInstance(Locale.US);
+        final DecimalScanner scanner = DecimalScanner.getInstance(format);
+        assertTrue(scanner.scan("12.50%"));
+        assertEquals(new BigDecimal("0.125"), scanner.toBigDecimal());
+        assertTrue(scanner.scan("1,200%"));
+        assertEquals(new BigDecimal("12"), scanner.toBigDecimal());
+    }
+
+    @Test
+    void testUnsupportedFormat() {
+        final DecimalFormat format = new DecimalFormat("#,##0.00");
+        format.setMultiplier(7);
+        assertNull(DecimalScanner.getInstance(format));
+        assertNull(DecimalScanner.getInstance(null));
+        assertNull(DecimalScanner.getInstance(java.text.DateFormat.getDateInstance()));
+    }
+
+    @Test
+    void testValidatorsMatchFormatParsing() {
+        final Random random = new Random(7L);
+        final BigDecimalValidator[] validators = { new BigDecimalValidator(), new BigDecimalValidator(false), new CurrencyValidator(),
+                new CurrencyValidator(false, true), new CurrencyValidator(true, false), new PercentValidator() };
+        for (final Locale locale : LOCALES) {
+            for (final BigDecimalValidator validator : validators) {
+                final DecimalFormat format = (DecimalFormat) validator.getFormat(null, locale);
+                for (int i = 0; i < 200; i++) {
+                    final String amount = mutate(random, randomAmount(random, format));
+                    final Object scanned = validator.scan(amount, validator.getFormat(null, locale), new ParseContext());
+                    if (scanned != null) {
+                        final Object parsed = validator.parseFormat(amount, validator.getFormat(null, locale), new ParseContext());
+                        assertEquals(parsed, scanned, "'" + amount + "' " + locale);
+                    }
+                }
+            }
+        }
+    }
+}
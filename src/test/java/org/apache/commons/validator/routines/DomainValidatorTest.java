@@ -40,6 +40,7 @@ import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Random;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.regex.Matcher;
@@ -416,6 +417,45 @@ public class DomainValidatorTest {
         assertTrue(sorted);
     }
 
+    /**
+     * Tests that the host name scan agrees with the regular expressions it replaced on a fuzzed corpus.
+     */
+    @Test
+    void testDomainScanMatchesRegex() {
+        final String label = "\\p{Alnum}(?>[\\p{Alnum}-]{0,61}\\p{Alnum})?";
+        final String topLabel = "\\p{Alpha}(?>[\\p{Alnum}-]{0,61}\\p{Alnum})?";
+        final RegexValidator domainRegex = new RegexValidator("^(?:" + label + "\\.)+(" + topLabel + ")\\.?$");
+        final RegexValidator hostnameRegex = new RegexValidator(label);
+        final DomainValidator local = DomainValidator.getInstance(true);
+        final String[] seeds = { "apache.org", "www.apache.org.", "localhost", "a-b.c-d9.com", "9.example", "xn--bcher-kva.ch", "a.b.c.d.e.f" };
+        final String noise = "aZ9.-_ .\u00E9\u3002";
+        final Random random = new Random(2396L);
+        for (int i = 0; i < 50_000; i++) {
+            final StringBuilder buffer = new StringBuilder(seeds[random.nextInt(seeds.length)]);
+            final int edits = random.nextInt(4);
+            for (int j = 0; j < edits; j++) {
+                final int index = random.nextInt(buffer.length() + 1);
+                if (random.nextBoolean() || index == buffer.length()) {
+                    buffer.insert(index, noise.charAt(random.nextInt(noise.length())));
+                } else {
+                    buffer.deleteCharAt(index);
+                }
+            }
+            if (random.nextInt(10) == 0) {
+                buffer.insert(0, buffer.toString().replace(".", "") + "0123456789012345678901234567890123456789012345678901234.");
+            }
+            final String domain = buffer.toString();
+            final String ascii = DomainValidator.unicodeToASCII(domain);
+            final String[] groups = domainRegex.match(ascii);
+            final boolean regexSyntax = ascii.length() <= 253 && (groups != null || hostnameRegex.isValid(ascii));
+            assertEquals(regexSyntax, validator.isValidDomainSyntax(domain), domain);
+            final boolean regexValid = ascii.length() <= 253 && groups != null && validator.isValidTld(groups[0]);
+            assertEquals(regexValid, validator.isValid(domain), domain);
+            final boolean regexLocal = ascii.length() <= 253 && (groups != null ? local.isValidTld(groups[0]) : hostnameRegex.isValid(ascii));
+            assertEquals(regexLocal, local.isValid(domain), domain);
+        }
+    }
+
     @Test
     void testDomainNoDots() { // rfc1123
         assertTrue(validator.isValidDomainSyntax("a"), "a (alpha) should validate");
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link DomainVerdictCache}.
+ */
+class DomainVerdictCacheTest {
+
+    @Test
+    void testConcurrentUse() throws Exception {
+        final DomainValidator validator = DomainValidator.getInstance().withVerdictCache(100);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    boolean agree = true;
+                    for (int i = 0; i < 5_000; i++) {
+                        final String domain = "host" + i % 300 + (i % 2 == 0 ? ".com" : ".invalidtld");
+                        agree &= validator.isValid(domain) == (i % 2 == 0);
+                    }
+                    return agree;
+                }));
+            }
+            for (final Future<Boolean> future : futures) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        final DomainVerdictCache cache = validator.getVerdictCache();
+        assertEquals(20_000, cache.getHitCount() + cache.getMissCount());
+        // 100 rounded up to a multiple of 16 segments
+        assertTrue(cache.size() <= 112, cache::toString);
+    }
+
+    @Test
+    void testEmailAndUrlValidators() {
+        final DomainValidator domainValidator = DomainValidator.getInstance(false).withVerdictCache(10);
+        final EmailValidator emailValidator = new EmailValidator(false, false, domainValidator);
+        final UrlValidator urlValidator = new UrlValidator(null, null, 0, domainValidator);
+        assertTrue(emailValidator.isValid("jsmith@apache.org"));
+        assertTrue(urlValidator.isValid("https://apache.org/"));
+        assertFalse(emailValidator.isValid("jsmith@apache.invalidtld"));
+        final DomainVerdictCache cache = domainValidator.getVerdictCache();
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1.0 / 3, cache.getHitRate(), 1e-9);
+    }
+
+    @Test
+    void testEviction() {
+        final DomainValidator validator = DomainValidator.getInstance().withVerdictCache(3);
+        final DomainVerdictCache cache = validator.getVerdictCache();
+        assertEquals(3, cache.getMaximumSize());
+        validator.isValid("a.com");
+        validator.isValid("b.com");
+        validator.isValid("c.com");
+        validator.isValid("a.com"); // hit, a.com is now the most recently used
+        validator.isValid("d.com"); // evicts b.com
+        assertEquals(3, cache.size());
+        validator.isValid("a.com");
+        assertEquals(2, cache.getHitCount());
+        validator.isValid("b.com");
+        assertEquals(2, cache.getHitCount());
+        assertEquals(5, cache.getMissCount());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    void testHitsAndMisses() {
+        final DomainValidator validator = DomainValidator.getInstance().withVerdictCache(1_000);
+        final DomainVerdictCache cache = validator.getVerdictCache();
+        assertEquals(0.0, cache.getHitRate());
+        assertTrue(validator.isValid("www.apache.org"));
+        assertFalse(validator.isValid("www.apache.invalidtld"));
+        assertTrue(validator.isValid("www.apache.org"));
+        assertFalse(validator.isValid("www.apache.invalidtld"));
+        assertFalse(validator.isValid(null));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testInvalidSize() {
+        final DomainValidator validator = DomainValidator.getInstance();
+        assertThrows(IllegalArgumentException.class, () -> validator.withVerdictCache(0));
+    }
+
+    @Test
+    void testKeepsSettingsAndOverrides() {
+        final List<DomainValidator.Item> items = new ArrayList<>();
+        items.add(new DomainValidator.Item(DomainValidator.ArrayType.GENERIC_PLUS, "local"));
+        final DomainValidator source = DomainValidator.getInstance(true, items);
+        final DomainValidator validator = source.withVerdictCache(10);
+        assertNull(source.getVerdictCache());
+        assertNotNull(validator.getVerdictCache());
+        assertTrue(validator.isAllowLocal());
+        assertTrue(validator.isValid("test.local"));
+        assertTrue(validator.isValid("localhost"));
+        assertEquals(source.getOverrides(DomainValidator.ArrayType.GENERIC_PLUS)[0], validator.getOverrides(DomainValidator.ArrayType.GENERIC_PLUS)[0]);
+    }
+}
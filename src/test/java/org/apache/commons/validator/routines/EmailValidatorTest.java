@@ -23,6 +23,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.commons.validator.ResultPair;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,6 +48,60 @@ public class EmailValidatorTest {
      */
     protected static final String ACTION = "email";
 
+    /**
+     * The regular expression implementation the scanning {@link EmailValidator} must agree with.
+     */
+    private static final class RegexEmailValidator {
+
+        private static final String SPECIAL_CHARS = "\\p{Cc}\\(\\)<>@,;:'\\\\\\\"\\.\\[\\]";
+        private static final String VALID_CHARS = "(\\\\[^\\p{Cc}])|[^\\s" + SPECIAL_CHARS + "]";
+        private static final String QUOTED_USER = "(\"(\\\\\"|[^\"\\p{Cc}])*\")";
+        private static final String WORD = "((" + VALID_CHARS + "|')+|" + QUOTED_USER + ")";
+        private static final Pattern EMAIL_PATTERN = Pattern.compile("^(.+)@(\\S+)$");
+        private static final Pattern IP_DOMAIN_PATTERN = Pattern.compile("^\\[((?i)IPv6:)?(.*)\\]$");
+        private static final Pattern USER_PATTERN = Pattern.compile("^" + WORD + "(\\." + WORD + ")*$");
+
+        private final boolean allowTld;
+        private final DomainValidator domainValidator;
+
+        RegexEmailValidator(final boolean allowLocal, final boolean allowTld) {
+            this.allowTld = allowTld;
+            this.domainValidator = DomainValidator.getInstance(allowLocal);
+        }
+
+        boolean isValid(final String email) {
+            if (email == null || email.endsWith(".")) {
+                return false;
+            }
+            final Matcher emailMatcher = EMAIL_PATTERN.matcher(email);
+            return emailMatcher.matches() && isValidUser(emailMatcher.group(1)) && isValidDomain(emailMatcher.group(2));
+        }
+
+        boolean isValidDomain(final String domain) {
+            final Matcher ipDomainMatcher = IP_DOMAIN_PATTERN.matcher(domain);
+            if (ipDomainMatcher.matches()) {
+                final InetAddressValidator inetAddressValidator = InetAddressValidator.getInstance();
+                if (ipDomainMatcher.group(1) != null) {
+                    return inetAddressValidator.isValidInet6Address(ipDomainMatcher.group(2));
+                }
+                return inetAddressValidator.isValidInet4Address(ipDomainMatcher.group(2));
+            }
+            if (allowTld) {
+                return domainValidator.isValid(domain) || !domain.startsWith(".") && domainValidator.isValidTld(domain);
+            }
+            return domainValidator.isValid(domain);
+        }
+
+        boolean isValidUser(final String user) {
+            return user.length() <= 64 && USER_PATTERN.matcher(user).matches();
+        }
+    }
+
+    /**
+     * The characters fuzzed addresses are mutated with, weighted towards the ones with a special meaning.
+     */
+    private static final String NOISE = "aZ09.@@\"\"\\\\'()<>,;:[] \t\n\r\u000B\u0000\u007F\u0085\u2028\u00E9\u0131-_+!#IPv6:.";
+
     /**
      * These test values derive directly from RFC 822 & Mail::RFC822::Address & RFC::RFC822::Address perl test.pl For traceability don't combine these test
      * values with other tests.
@@ -505,6 +562,49 @@ public class EmailValidatorTest {
 
     }
 
+    /**
+     * Tests that the scanning implementation agrees with the regular expressions it replaced on a fuzzed corpus.
+     */
+    @Test
+    void testScannerMatchesRegexImplementation() {
+        final String[] seeds = { "jsmith@apache.org", "\"joe\\\"s\"@apache.org", "\"a.b\".c@apache.org", "a\\@b.c@[127.0.0.1]",
+                "joe@[IPv6:2001:db8::1]", "joe@[ipv6:::1]", "o'reilly@example.com", "joe@localhost", "joe@com", "\u00E9l\u00E8ve@\u00E9cole.fr",
+                "\"\\\"\"@foo.bar", "a.\"b\\\".c\".d@example.net", "joe@xn--bcher-kva.ch" };
+        final Random random = new Random(5321L);
+        final boolean[] flags = { false, true };
+        for (final boolean allowLocal : flags) {
+            for (final boolean allowTld : flags) {
+                final EmailValidator scanner = EmailValidator.getInstance(allowLocal, allowTld);
+                final RegexEmailValidator regex = new RegexEmailValidator(allowLocal, allowTld);
+                for (final ResultPair pair : TEST_EMAIL_FROM_PERL) {
+                    assertEquals(regex.isValid(pair.item), scanner.isValid(pair.item), pair.item);
+                }
+                for (int i = 0; i < 20_000; i++) {
+                    final StringBuilder buffer = new StringBuilder(seeds[random.nextInt(seeds.length)]);
+                    final int edits = 1 + random.nextInt(4);
+                    for (int j = 0; j < edits; j++) {
+                        final int index = random.nextInt(buffer.length() + 1);
+                        final char ch = NOISE.charAt(random.nextInt(NOISE.length()));
+                        if (random.nextBoolean() || index == buffer.length()) {
+                            buffer.insert(index, ch);
+                        } else if (random.nextBoolean()) {
+                            buffer.setCharAt(index, ch);
+                        } else {
+                            buffer.deleteCharAt(index);
+                        }
+                    }
+                    final String email = buffer.toString();
+                    assertEquals(regex.isValid(email), scanner.isValid(email), email);
+                    final int at = email.lastIndexOf('@');
+                    final String user = at < 0 ? email : email.substring(0, at);
+                    assertEquals(regex.isValidUser(user), scanner.isValidUser(user), user);
+                    final String domain = email.substring(at + 1);
+                    assertEquals(regex.isValidDomain(domain), scanner.isValidDomain(domain), domain);
+                }
+            }
+        }
+    }
+
     @Test
     void testValidator235() {
         assertTrue(validator.isValid("someone@xn--d1abbgf6aiiy.xn--p1ai"), "xn--d1abbgf6aiiy.xn--p1ai should validate");
@@ -20,6 +20,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Locale;
+import java.util.Random;
+
+import org.apache.commons.validator.routines.checkdigit.CheckDigitException;
+import org.apache.commons.validator.routines.checkdigit.ISINCheckDigit;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -82,6 +87,52 @@ class ISINValidatorTest {
     private final String[] invalidFormatTrue = { "AB0000000006", // Invalid country code
     };
 
+    /**
+     * Appends the check digit to the first 11 characters of an ISIN.
+     */
+    private static String withCheckDigit(final String code) throws CheckDigitException {
+        return code + ISINCheckDigit.ISIN_CHECK_DIGIT.calculate(code);
+    }
+
+    @Test
+    void testCountryCodes() throws CheckDigitException {
+        for (final String country : Locale.getISOCountries()) {
+            final String code = withCheckDigit(country + "000000000");
+            assertTrue(VALIDATOR_TRUE.isValid(code), code);
+        }
+        for (char first = 'A'; first <= 'Z'; first++) {
+            for (char second = 'A'; second <= 'Z'; second++) {
+                final String code = withCheckDigit("" + first + second + "000000000");
+                assertTrue(VALIDATOR_FALSE.isValid(code), code);
+            }
+        }
+        assertFalse(VALIDATOR_TRUE.isValid(withCheckDigit("ZY000000000")));
+    }
+
+    /**
+     * Tests that the structural checks agree with the {@link CodeValidator} they replaced on a fuzzed corpus.
+     */
+    @Test
+    void testMatchesCodeValidator() {
+        final CodeValidator reference = new CodeValidator("([A-Z]{2}[A-Z0-9]{9}[0-9])", 12, ISINCheckDigit.ISIN_CHECK_DIGIT);
+        final String noise = "AZaz09 \t-";
+        final Random random = new Random(6166L);
+        for (int i = 0; i < 20_000; i++) {
+            final StringBuilder buffer = new StringBuilder(validFormat[random.nextInt(validFormat.length)]);
+            final int edits = random.nextInt(3);
+            for (int j = 0; j < edits; j++) {
+                final int index = random.nextInt(buffer.length() + 1);
+                if (random.nextBoolean() || index == buffer.length()) {
+                    buffer.insert(index, noise.charAt(random.nextInt(noise.length())));
+                } else {
+                    buffer.setCharAt(index, noise.charAt(random.nextInt(noise.length())));
+                }
+            }
+            final String code = buffer.toString();
+            assertEquals(reference.validate(code), VALIDATOR_FALSE.validate(code), code);
+        }
+    }
+
     @Test
     void testInvalidFalse() {
         for (final String f : invalidFormat) {
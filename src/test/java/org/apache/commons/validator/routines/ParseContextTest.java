@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.routines;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.Format;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ParseContext}.
+ */
+class ParseContextTest {
+
+    @Test
+    void testBatch() {
+        final BigDecimalValidator validator = BigDecimalValidator.getInstance();
+        final ParseContext context = new ParseContext();
+        final String[] values = { "1,234.5", "12x", "", null, "7" };
+        final boolean[] valid = { true, false, false, false, true };
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(valid[i], validator.isValid(values[i], null, Locale.US, context), values[i]);
+            assertEquals(valid[i], context.isValid(), values[i]);
+            assertEquals(validator.validate(values[i], Locale.US), context.getValue(), values[i]);
+        }
+    }
+
+    @Test
+    void testCalendar() {
+        final CalendarValidator validator = CalendarValidator.getInstance();
+        final ParseContext context = new ParseContext();
+        assertTrue(validator.isValid("2005-12-31", "yyyy-MM-dd", Locale.US, context));
+        final Calendar calendar = (Calendar) context.getValue();
+        assertEquals(2005, calendar.get(Calendar.YEAR));
+        assertEquals(Calendar.DECEMBER, calendar.get(Calendar.MONTH));
+        assertFalse(validator.isValid("2005-13-31", "yyyy-MM-dd", Locale.US, context));
+        assertNull(context.getValue());
+
+        final TimeZone zone = TimeZone.getTimeZone("GMT+5");
+        final DateValidator dateValidator = DateValidator.getInstance();
+        final Date date = (Date) dateValidator.parse("2005-12-31 10:00", "yyyy-MM-dd HH:mm", Locale.US, zone, context);
+        assertEquals(dateValidator.validate("2005-12-31 10:00", "yyyy-MM-dd HH:mm", Locale.US, zone), date);
+    }
+
+    @Test
+    void testCalendarNotShared() {
+        final CalendarValidator validator = CalendarValidator.getInstance();
+        final ParseContext context = new ParseContext();
+        assertTrue(validator.isValid("2005-12-31", "yyyy-MM-dd", Locale.US, context));
+        final Calendar first = (Calendar) context.getValue();
+        assertTrue(validator.isValid("2010-06-15", "yyyy-MM-dd", Locale.US, context));
+        final Calendar second = (Calendar) context.getValue();
+        assertNotSame(first, second);
+        assertEquals(2005, first.get(Calendar.YEAR));
+        assertEquals(Calendar.DECEMBER, first.get(Calendar.MONTH));
+        assertEquals(31, first.get(Calendar.DATE));
+        assertEquals(2010, second.get(Calendar.YEAR));
+        assertEquals(Calendar.JUNE, second.get(Calendar.MONTH));
+        assertEquals(15, second.get(Calendar.DATE));
+    }
+
+    @Test
+    void testClear() {
+        final IntegerValidator validator = IntegerValidator.getInstance();
+        final ParseContext context = new ParseContext();
+        assertTrue(validator.isValid("12", null, Locale.US, context));
+        final Format format = context.getFormat(validator, null, Locale.US, null);
+        context.clear();
+        assertNull(context.getValue());
+        assertEquals(0, context.getIndex());
+        assertEquals(-1, context.getErrorIndex());
+        assertNotSame(format, context.getFormat(validator, null, Locale.US, null));
+    }
+
+    @Test
+    void testErrorIndex() {
+        final BigDecimalValidator validator = BigDecimalValidator.getInstance();
+        final ParseContext context = new ParseContext();
+        assertFalse(validator.isValid("12x", null, Locale.US, context));
+        assertEquals(2, context.getErrorIndex());
+        assertFalse(validator.isValid("x12", null, Locale.US, context));
+        assertEquals(0, context.getErrorIndex());
+        assertFalse(validator.isValid("  ", null, Locale.US, context));
+        assertEquals(0, context.getErrorIndex());
+        assertTrue(validator.isValid("12.5", null, Locale.US, context));
+        assertEquals(-1, context.getErrorIndex());
+        assertEquals(4, context.getIndex());
+        assertEquals(new BigDecimal("12.5"), context.getValue());
+    }
+
+    @Test
+    void testFormatReuse() {
+        final IntegerValidator validator = IntegerValidator.getInstance();
+        final LongValidator other = LongValidator.getInstance();
+        final ParseContext context = new ParseContext();
+        final Format format = context.getFormat(validator, null, Locale.US, null);
+        assertSame(format, context.getFormat(validator, null, Locale.US, null));
+        assertNotSame(format, context.getFormat(validator, "#,##0", Locale.US, null));
+        final Format pattern = context.getFormat(validator, "#,##0", Locale.US, null);
+        assertSame(pattern, context.getFormat(validator, "#,##0", Locale.US, null));
+        assertNotSame(pattern, context.getFormat(validator, "#,##0", Locale.GERMANY, null));
+        assertNotSame(context.getFormat(validator, null, Locale.US, null), context.getFormat(other, null, Locale.US, null));
+    }
+
+    @Test
+    void testPercentDoesNotChangeCachedFormat() {
+        final PercentValidator validator = (PercentValidator) PercentValidator.getInstance();
+        final ParseContext context = new ParseContext();
+        final Format format = context.getFormat(validator, null, Locale.US, null);
+        final String pattern = ((DecimalFormat) format).toPattern();
+        assertTrue(validator.isValid("12", null, Locale.US, context));
+        assertEquals(new BigDecimal("0.12"), context.getValue());
+        assertEquals(pattern, ((DecimalFormat) format).toPattern());
+        assertTrue(validator.isValid("12%", null, Locale.US, context));
+        assertEquals(new BigDecimal("0.12"), context.getValue());
+    }
+
+    @Test
+    void testRangeRejected() {
+        final ByteValidator validator = ByteValidator.getInstance();
+        final ParseContext context = new ParseContext();
+        assertFalse(validator.isValid("128", null, Locale.US, context));
+        assertEquals(-1, context.getErrorIndex());
+        assertTrue(validator.isValid("127", null, Locale.US, context));
+        assertEquals(Byte.valueOf((byte) 127), context.getValue());
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.validator.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link PropertyAccessor}.
+ */
+class PropertyAccessorTest {
+
+    public static class Address {
+
+        private final String[] lines;
+
+        public Address(final String... lines) {
+            this.lines = lines;
+        }
+
+        public String[] getLines() {
+            return lines;
+        }
+    }
+
+    public static class Person {
+
+        private String name;
+
+        private Address address;
+
+        private List<Address> previous = Collections.emptyList();
+
+        private boolean active;
+
+        private int failures;
+
+        public Address getAddress() {
+            return address;
+        }
+
+        public String getFailing() {
+            failures++;
+            throw new IllegalStateException("failing");
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<Address> getPrevious() {
+            return previous;
+        }
+
+        public Address getPrevious(final int index) {
+            return previous.get(index);
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+    }
+
+    private static Person person() {
+        final Person person = new Person();
+        person.name = "Jane";
+        person.active = true;
+        person.address = new Address("1 Main Street", "Springfield");
+        person.previous = Arrays.asList(new Address("2 Side Street"), new Address("3 Back Lane", "Shelbyville"));
+        return person;
+    }
+
+    @Test
+    void testGetterThrows() {
+        final Person person = person();
+        final InvocationTargetException e = assertThrows(InvocationTargetException.class, () -> PropertyAccessor.getProperty(person, "failing"));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        // the read method is called once, not again by BeanUtils
+        assertEquals(1, person.failures);
+    }
+
+    @Test
+    void testIndexed() throws ReflectiveOperationException {
+        final Person person = person();
+        assertEquals("Springfield", PropertyAccessor.getProperty(person, "address.lines[1]"));
+        assertEquals("Shelbyville", PropertyAccessor.getProperty(person, "previous[1].lines[1]"));
+        assertThrows(IndexOutOfBoundsException.class, () -> PropertyAccessor.getProperty(person, "address.lines[2]"));
+        assertThrows(IndexOutOfBoundsException.class, () -> PropertyAccessor.getProperty(person, "previous[2]"));
+    }
+
+    @Test
+    void testMap() throws ReflectiveOperationException {
+        assertEquals("Jane", PropertyAccessor.getProperty(Collections.singletonMap("name", "Jane"), "name"));
+        assertEquals("Jane", PropertyAccessor.getProperty(Collections.singletonMap("person", person()), "person.name"));
+    }
+
+    @Test
+    void testMissing() {
+        assertThrows(NoSuchMethodException.class, () -> PropertyAccessor.getProperty(person(), "age"));
+    }
+
+    @Test
+    void testNested() throws ReflectiveOperationException {
+        final Person person = person();
+        assertEquals(person.getAddress().getLines(), PropertyAccessor.getProperty(person, "address.lines"));
+        person.address = null;
+        assertThrows(IllegalArgumentException.class, () -> PropertyAccessor.getProperty(person, "address.lines"));
+    }
+
+    @Test
+    void testSuppressed() {
+        final Person person = person();
+        assertThrows(NoSuchMethodException.class, () -> PropertyAccessor.getProperty(person, "class"));
+        assertThrows(NoSuchMethodException.class, () -> PropertyAccessor.getProperty(person, "class.classLoader"));
+        assertThrows(NoSuchMethodException.class, () -> PropertyAccessor.getProperty(person, "address.class"));
+        assertThrows(NoSuchMethodException.class, () -> PropertyAccessor.getProperty(TimeUnit.SECONDS, "declaringClass"));
+        assertNull(ValidatorUtils.getValueAsString(person, "class"));
+    }
+
+    @Test
+    void testSimple() throws ReflectiveOperationException {
+        final Person person = person();
+        assertEquals("Jane", PropertyAccessor.getProperty(person, "name"));
+        assertEquals(Boolean.TRUE, PropertyAccessor.getProperty(person, "active"));
+        person.name = null;
+        assertNull(PropertyAccessor.getProperty(person, "name"));
+        // a bean of a class that is not public is read with BeanUtils
+        assertEquals("John", PropertyAccessor.getProperty(new Person() {
+            @Override
+            public String getName() {
+                return "John";
+            }
+        }, "name"));
+    }
+}